@@ -0,0 +1,95 @@
+package me.whiteship.designpatterns;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.ref.Reference;
+import java.util.concurrent.Callable;
+
+/**
+ * main 으로 돌리는 힙 사용량 측정에서 같이 쓰는 도구. JMH 는 할당량은 보여 주지만 붙잡아 둔 객체의 크기는 보여 주지 않는다.
+ */
+public final class HeapFootprint {
+
+    private HeapFootprint() {
+    }
+
+    /**
+     * exec:exec 로 넘긴 인자에는 JMH 포함 패턴도 섞여 있으므로 처음 나오는 숫자를 개수로 쓴다.
+     */
+    public static int count(String[] args, int defaultCount) {
+        int count = defaultCount;
+        for (String arg : args) {
+            if (arg.matches("\\d+")) {
+                count = Integer.parseInt(arg);
+                break;
+            }
+        }
+        if (count < 1) {
+            throw new IllegalArgumentException("개수는 1 이상이어야 합니다. " + count);
+        }
+        return count;
+    }
+
+    /**
+     * factory 로 만든 객체 count 개를 붙잡아 둔 채로 늘어난 힙 사용량.
+     */
+    public static long retained(int count, Callable<?> factory) throws Exception {
+        if (count < 1) {
+            throw new IllegalArgumentException("개수는 1 이상이어야 합니다. " + count);
+        }
+        long before = usedHeap();
+        Object[] objects = new Object[count];
+        for (int i = 0; i < count; i++) {
+            objects[i] = factory.call();
+        }
+        long after = usedHeap();
+        Reference.reachabilityFence(objects);
+        return after - before;
+    }
+
+    /**
+     * GC 를 몇 번 돌린 뒤의 힙 사용량.
+     */
+    public static long usedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * GC 를 돌리고 힙 최대 사용량을 지운 뒤 지금 사용량을 돌려준다. 뒤에 {@link #peakHeap()} 과 빼서 쓴다.
+     */
+    public static long resetPeak() {
+        long used = usedHeap();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+            }
+        }
+        return used;
+    }
+
+    public static long peakHeap() {
+        long peak = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peak += pool.getPeakUsage().getUsed();
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * 기준과 비교 대상의 힙 사용량, 개당 크기, 절약한 양을 표로 찍는다.
+     */
+    public static void printComparison(String kind, String perUnit, int count,
+                                       String baseline, long baselineBytes, String candidate, long candidateBytes) {
+        System.out.printf("%-8s %16s %12s%n", kind, "heap bytes", perUnit);
+        System.out.printf("%-8s %,16d %12.1f%n", baseline, baselineBytes, baselineBytes / (double) count);
+        System.out.printf("%-8s %,16d %12.1f%n", candidate, candidateBytes, candidateBytes / (double) count);
+        System.out.printf("절약 %,d bytes (%.1f%%)%n", baselineBytes - candidateBytes,
+                100.0 * (baselineBytes - candidateBytes) / baselineBytes);
+    }
+}
@@ -0,0 +1,28 @@
+package me.whiteship.designpatterns;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * System.out 으로 출력하는 예제를 측정할 때 콘솔 I/O 대신 출력 문자열 생성 비용만 남긴다.
+ */
+public abstract class SilentBenchmark {
+
+    private PrintStream console;
+
+    @Setup(Level.Trial)
+    public void silenceConsole() {
+        this.console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown(Level.Trial)
+    public void restoreConsole() {
+        System.setOut(this.console);
+    }
+
+}
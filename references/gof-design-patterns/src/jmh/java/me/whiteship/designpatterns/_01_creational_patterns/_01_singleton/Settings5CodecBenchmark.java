@@ -0,0 +1,61 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import me.whiteship.designpatterns.support.Codec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Java 직렬화와 {@link Settings5Codec} 의 왕복 처리량. 객체당 바이트 수는 셋업에서 출력한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Settings5CodecBenchmark {
+
+    private final Codec<Settings5> codec = new Settings5Codec();
+
+    @Setup
+    public void printSize() throws IOException {
+        System.out.printf("Settings5 bytes: java serialization=%d, codec=%d%n",
+                serialize(Settings5.INSTANCE).length, codec.encode(Settings5.INSTANCE).length);
+    }
+
+    @Benchmark
+    public Settings5 javaSerialization() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(Settings5.INSTANCE)))) {
+            return (Settings5) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public Settings5 codec() throws IOException {
+        return codec.decode(codec.encode(Settings5.INSTANCE));
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+}
@@ -0,0 +1,57 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 getInstance() 를 호출할 때의 처리량과 꼬리 지연.
+ * 스레드 수는 -t 로 주거나 {@link SettingsContentionReport} 로 1..N 을 한 번에 돌린다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SettingsBenchmark {
+
+    @Benchmark
+    public Settings1 settings1() {
+        return Settings1.getInstance();
+    }
+
+    @Benchmark
+    public Settings2 settings2() {
+        return Settings2.getInstance();
+    }
+
+    @Benchmark
+    public Settings3 settings3() {
+        return Settings3.getInstance();
+    }
+
+    @Benchmark
+    public Settings4 settings4() {
+        return Settings4.getInstance();
+    }
+
+    @Benchmark
+    public Settings5 settings5() {
+        return Settings5.INSTANCE;
+    }
+
+    @Benchmark
+    public Settings6 settings6() {
+        return Settings6.getInstance();
+    }
+
+}
@@ -0,0 +1,113 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@link SettingsBenchmark} 를 1, 2, 4 ... N 스레드로 돌리고 어떤 싱글톤 구현을 쓸지 추천한다.
+ * <pre>
+ * ./mvnw -Pjmh compile exec:exec -Djmh.includes=SettingsBenchmark \
+ *     -Djmh.main=me.whiteship.designpatterns._01_creational_patterns._01_singleton.SettingsContentionReport \
+ *     -Djmh.args="-t 64"
+ * </pre>
+ * 추천은 가장 많은 스레드에서의 처리량 순이고, 처리량이 5% 안으로 비슷하면 p99.9 지연이 낮은 쪽을 고른다.
+ * Settings1 은 스레드 안전하지 않으므로 측정만 하고 추천에서는 뺀다.
+ */
+public class SettingsContentionReport {
+
+    private static final int DEFAULT_MAX_THREADS = 64;
+
+    private static final double SAME_THROUGHPUT = 0.05;
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        int maxThreads = commandLineOptions.getThreads().orElse(DEFAULT_MAX_THREADS);
+        String resultFile = commandLineOptions.getResult().orElse(null);
+
+        Map<String, TreeMap<Integer, Measured>> measuredByVariant = new TreeMap<>();
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            ChainedOptionsBuilder options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .threads(threads);
+            if (resultFile != null) {
+                options.result(resultFile.replace(".json", "-t" + threads + ".json"));
+            }
+
+            for (RunResult runResult : new Runner(options.build()).run()) {
+                String benchmark = runResult.getParams().getBenchmark();
+                if (!benchmark.contains(SettingsBenchmark.class.getSimpleName())) {
+                    continue;
+                }
+                String variant = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+                Measured measured = measuredByVariant.computeIfAbsent(variant, v -> new TreeMap<>())
+                        .computeIfAbsent(runResult.getParams().getThreads(), Measured::new);
+                if (runResult.getParams().getMode() == Mode.Throughput) {
+                    measured.throughput = runResult.getPrimaryResult().getScore();
+                } else if (runResult.getParams().getMode() == Mode.SampleTime) {
+                    measured.p99 = runResult.getPrimaryResult().getStatistics().getPercentile(99);
+                    measured.p999 = runResult.getPrimaryResult().getStatistics().getPercentile(99.9);
+                }
+            }
+        }
+
+        print(measuredByVariant);
+        recommend(measuredByVariant);
+    }
+
+    private static void print(Map<String, TreeMap<Integer, Measured>> measuredByVariant) {
+        System.out.println();
+        System.out.printf("%-10s %8s %16s %12s %12s%n", "variant", "threads", "ops/us", "p99 us", "p99.9 us");
+        measuredByVariant.forEach((variant, measured) -> measured.values().forEach(m ->
+                System.out.printf("%-10s %8d %16.3f %12.3f %12.3f%n", variant, m.threads, m.throughput, m.p99, m.p999)));
+    }
+
+    private static void recommend(Map<String, TreeMap<Integer, Measured>> measuredByVariant) {
+        Map<String, Measured> atMaxThreads = new TreeMap<>();
+        measuredByVariant.forEach((variant, measured) -> {
+            if (!variant.equals("settings1")) {
+                atMaxThreads.put(variant, measured.lastEntry().getValue());
+            }
+        });
+        if (atMaxThreads.isEmpty()) {
+            System.out.println("측정 결과가 없습니다.");
+            return;
+        }
+
+        double bestThroughput = atMaxThreads.values().stream().mapToDouble(m -> m.throughput).max().getAsDouble();
+        Map.Entry<String, Measured> recommended = atMaxThreads.entrySet().stream()
+                .filter(e -> e.getValue().throughput >= bestThroughput * (1 - SAME_THROUGHPUT))
+                .min(Comparator.comparingDouble(e -> e.getValue().p999))
+                .get();
+
+        System.out.println();
+        System.out.printf("추천: %s (%d 스레드에서 %.3f ops/us, p99.9 %.3f us)%n",
+                recommended.getKey(), recommended.getValue().threads,
+                recommended.getValue().throughput, recommended.getValue().p999);
+    }
+
+    private static class Measured {
+
+        private final int threads;
+
+        private double throughput;
+
+        private double p99;
+
+        private double p999;
+
+        private Measured(int threads) {
+            this.threads = threads;
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 보내는 데 notifyTokens 만큼 CPU 를 쓰는 팩토리로 orderShip 지연을 잰다.
+ * sync 는 알림을 호출한 스레드에서 보내고, async 는 {@link AsyncNotifyingShipFactory} 의 큐에 넣고 돌아온다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotificationOutboxBenchmark extends SilentBenchmark {
+
+    @Param({"1000"})
+    private long notifyTokens;
+
+    @Param({"BLOCK", "DROP", "CALLER_RUNS"})
+    private NotificationOutbox.BackpressurePolicy policy;
+
+    private ShipFactory slowFactory;
+
+    private AsyncNotifyingShipFactory asyncFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long tokens = this.notifyTokens;
+        this.slowFactory = new WhiteshipFactory() {
+            @Override
+            public void sendEmailTo(String email, Ship ship) {
+                Blackhole.consumeCPU(tokens);
+                super.sendEmailTo(email, ship);
+            }
+
+            @Override
+            public void sendEmailTo(String email, List<Ship> ships) {
+                Blackhole.consumeCPU(tokens);
+                super.sendEmailTo(email, ships);
+            }
+        };
+        this.asyncFactory = new AsyncNotifyingShipFactory(slowFactory, 8192, 256, Duration.ofMillis(1), policy);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        asyncFactory.close();
+    }
+
+    @Benchmark
+    public Ship sync() {
+        return slowFactory.orderShip("whiteship", "keesun@mail.com");
+    }
+
+    @Benchmark
+    public Ship async() {
+        return asyncFactory.orderShip("whiteship", "keesun@mail.com");
+    }
+
+}
@@ -0,0 +1,54 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderShipMetrics} 를 켰을 때와 껐을 때 orderShip 비용, 히스토그램 기록 한 번의 비용을 잰다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderShipMetricsBenchmark extends SilentBenchmark {
+
+    @Param({"true", "false"})
+    private boolean enabled;
+
+    private final ShipFactory shipFactory = new WhiteshipFactory();
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    private long latency;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderShipMetrics.getInstance().setEnabled(enabled);
+    }
+
+    @Benchmark
+    public Ship orderShip() {
+        return shipFactory.orderShip("whiteship", "keesun@mail.com");
+    }
+
+    @Benchmark
+    public void record() {
+        histogram.record(latency = (latency + 7919) & 0xFFFFF);
+    }
+
+}
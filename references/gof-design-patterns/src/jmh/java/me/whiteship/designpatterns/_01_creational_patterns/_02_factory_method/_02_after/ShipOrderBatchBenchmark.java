@@ -0,0 +1,65 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 묶음을 orderShip 반복으로 처리할 때와 orderShips 한 번으로 처리할 때를 비교한다.
+ * 주문자 이메일은 emails 개로 나눠서 알림이 묶이는 정도를 바꿔 볼 수 있다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipOrderBatchBenchmark extends SilentBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int orders;
+
+    @Param({"10"})
+    private int emails;
+
+    private final ShipFactory shipFactory = new WhiteshipFactory();
+
+    private List<ShipOrder> shipOrders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.shipOrders = new ArrayList<>(orders);
+        for (int i = 0; i < orders; i++) {
+            shipOrders.add(new ShipOrder("whiteship" + i, "keesun" + (i % emails) + "@mail.com"));
+        }
+    }
+
+    @Benchmark
+    public List<Ship> orderShipLoop() {
+        List<Ship> ships = new ArrayList<>(shipOrders.size());
+        for (ShipOrder order : shipOrders) {
+            ships.add(shipFactory.orderShip(order.getName(), order.getEmail()));
+        }
+        return ships;
+    }
+
+    @Benchmark
+    public List<Ship> orderShips() {
+        return shipFactory.orderShips(shipOrders);
+    }
+
+}
@@ -0,0 +1,88 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림에 notifyTokens 만큼 CPU 를 쓰는 팩토리로 주문 orders 개를 처리한다.
+ * 단계를 넘길 때마다 큐를 거치므로 알림이 가벼우면 loop 가 빠르고, 알림이 무거울수록 pipeline 이 앞선다.
+ * loop 는 orderShip 을 차례로 부르고, pipeline 은 알림 단계에 notifyWorkers 개 스레드를 둔 {@link ShipProductionLine} 에 넣는다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipProductionLineBenchmark extends SilentBenchmark {
+
+    @Param({"1000"})
+    private int orders;
+
+    @Param({"1000", "20000"})
+    private long notifyTokens;
+
+    @Param({"1", "4"})
+    private int notifyWorkers;
+
+    private ShipFactory slowFactory;
+
+    private ShipProductionLine productionLine;
+
+    private ShipOrder[] shipOrders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long tokens = this.notifyTokens;
+        this.slowFactory = new WhiteshipFactory() {
+            @Override
+            public void sendEmailTo(String email, Ship ship) {
+                Blackhole.consumeCPU(tokens);
+                super.sendEmailTo(email, ship);
+            }
+        };
+        this.productionLine = new ShipProductionLine(slowFactory, ship -> {}, 1024, 1, 1, notifyWorkers);
+        this.shipOrders = new ShipOrder[orders];
+        for (int i = 0; i < orders; i++) {
+            shipOrders[i] = new ShipOrder("whiteship" + i, "keesun@mail.com");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        productionLine.close();
+    }
+
+    @Benchmark
+    public void loop(Blackhole blackhole) {
+        for (ShipOrder order : shipOrders) {
+            blackhole.consume(slowFactory.orderShip(order.getName(), order.getEmail()));
+        }
+    }
+
+    @Benchmark
+    public void pipeline() throws InterruptedException {
+        CompletableFuture<?>[] ships = new CompletableFuture<?>[shipOrders.length];
+        for (int i = 0; i < shipOrders.length; i++) {
+            ships[i] = productionLine.submit(shipOrders[i]);
+        }
+        CompletableFuture.allOf(ships).join();
+    }
+
+}
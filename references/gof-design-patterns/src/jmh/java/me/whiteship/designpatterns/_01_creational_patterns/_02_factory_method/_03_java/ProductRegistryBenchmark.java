@@ -0,0 +1,91 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Whiteship;
+import me.whiteship.designpatterns.support.ProductRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 배 종류가 types 개일 때 equalsIgnoreCase if-else 체인과 {@link ProductRegistry} 조회를 비교한다.
+ * 찾는 이름은 등록된 이름을 돌아가며 고르고, mixedCase 는 대소문자가 다른 이름("Ship12")으로 찾는다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductRegistryBenchmark {
+
+    @Param({"3", "30", "300"})
+    private int types;
+
+    private String[] names;
+
+    private String[] mixedCaseNames;
+
+    private List<Supplier<Ship>> suppliers;
+
+    private ProductRegistry<Ship> registry;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.names = new String[types];
+        this.mixedCaseNames = new String[types];
+        this.suppliers = new ArrayList<>(types);
+        this.registry = new ProductRegistry<>();
+        Supplier<Ship> constructor = ProductRegistry.constructorOf(Whiteship.class);
+        for (int i = 0; i < types; i++) {
+            names[i] = "ship" + i;
+            mixedCaseNames[i] = "Ship" + i;
+            suppliers.add(constructor);
+            registry.register(names[i], constructor);
+        }
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == types ? 0 : index + 1;
+        return index;
+    }
+
+    @Benchmark
+    public Ship ifChain() {
+        String name = mixedCaseNames[nextIndex()];
+        for (int i = 0; i < names.length; i++) {
+            if (name.equalsIgnoreCase(names[i])) {
+                return suppliers.get(i).get();
+            }
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    @Benchmark
+    public Ship registry() {
+        return registry.create(names[nextIndex()]);
+    }
+
+    @Benchmark
+    public Ship registryMixedCase() {
+        return registry.create(mixedCaseNames[nextIndex()]);
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.ShipFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문할 때 배를 조립하는 경우와 {@link PrewarmedShipInventory} 재고에서 꺼내는 경우의 createShip 비용.
+ * 재고를 채우는 스레드도 같은 CPU 를 쓰므로 코어가 적으면 차이가 줄어든다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrewarmedShipInventoryBenchmark {
+
+    private final ShipPartsFactory shipPartsFactory = new WhitePartsProFactory();
+
+    private final ShipFactory onDemand = new WhiteshipFactory(shipPartsFactory);
+
+    private PrewarmedShipInventory inventory;
+
+    private ShipFactory prewarmed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.inventory = new PrewarmedShipInventory(4096, 1024, 1);
+        this.prewarmed = inventory.register(shipPartsFactory);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println();
+        System.out.println("재고에서 " + inventory.getHits(shipPartsFactory) + ", 바로 만듦 " + inventory.getMisses(shipPartsFactory));
+        inventory.close();
+    }
+
+    @Benchmark
+    public Ship onDemand() {
+        return onDemand.createShip();
+    }
+
+    @Benchmark
+    public Ship prewarmed() {
+        return prewarmed.createShip();
+    }
+
+}
@@ -0,0 +1,61 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.ShipFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 배마다 부품을 새로 만드는 팩토리와 {@link ShipPartsFactory#shared} 팩토리 비교.
+ * -prof gc 의 gc.alloc.rate.norm 으로 배 한 척, 부품 parts 척 분량의 할당량을 본다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedPartsBenchmark {
+
+    @Param({"1000"})
+    private int parts;
+
+    private final ShipPartsFactory freshParts = new WhitePartsProFactory();
+
+    private final ShipPartsFactory sharedParts = ShipPartsFactory.shared(freshParts);
+
+    private final ShipFactory freshShipFactory = new WhiteshipFactory(freshParts);
+
+    private final ShipFactory sharedShipFactory = new WhiteshipFactory(sharedParts);
+
+    @Benchmark
+    public Ship freshShip() {
+        return freshShipFactory.createShip();
+    }
+
+    @Benchmark
+    public Ship sharedShip() {
+        return sharedShipFactory.createShip();
+    }
+
+    @Benchmark
+    public ShipParts freshParts() {
+        return freshParts.createParts(parts);
+    }
+
+    @Benchmark
+    public ShipParts sharedParts() {
+        return sharedParts.createParts(parts);
+    }
+
+}
@@ -0,0 +1,26 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import me.whiteship.designpatterns.HeapFootprint;
+
+/**
+ * 배 ships 척(인자 중 첫 숫자, 기본 백만)을 붙잡아 둔 채로 힙 사용량을 재서 부품을 새로 만들 때와 나눠 쓸 때를 비교한다.
+ * <pre>
+ * ./mvnw -Pjmh compile exec:exec \
+ *     -Djmh.main=me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after.SharedPartsFootprint \
+ *     -Djmh.args=1000000
+ * </pre>
+ */
+public class SharedPartsFootprint {
+
+    public static void main(String[] args) throws Exception {
+        int ships = HeapFootprint.count(args, 1_000_000);
+
+        ShipPartsFactory freshParts = new WhitePartsProFactory();
+        WhiteshipFactory freshFactory = new WhiteshipFactory(freshParts);
+        WhiteshipFactory sharedFactory = new WhiteshipFactory(ShipPartsFactory.shared(freshParts));
+        long fresh = HeapFootprint.retained(ships, freshFactory::createShip);
+        long shared = HeapFootprint.retained(ships, sharedFactory::createShip);
+
+        HeapFootprint.printComparison("parts", "bytes/ship", ships, "fresh", fresh, "shared", shared);
+    }
+}
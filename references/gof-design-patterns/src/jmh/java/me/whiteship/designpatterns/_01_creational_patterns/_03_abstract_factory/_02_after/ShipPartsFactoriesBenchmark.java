@@ -0,0 +1,44 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부품 계열을 찾을 때마다 ServiceLoader 로 목록을 읽는 경우와 {@link ShipPartsFactories} 캐시를 쓰는 경우.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipPartsFactoriesBenchmark {
+
+    @Benchmark
+    public ShipPartsFactory serviceLoader() {
+        return ServiceLoader.load(ShipPartsFactory.class).stream()
+                .filter(provider -> {
+                    ShipFamily family = provider.type().getAnnotation(ShipFamily.class);
+                    return family != null && family.value().equals("white-pro");
+                })
+                .findFirst()
+                .orElseThrow()
+                .get();
+    }
+
+    @Benchmark
+    public ShipPartsFactory cached() {
+        return ShipPartsFactories.get("white-pro");
+    }
+
+}
@@ -0,0 +1,39 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.ShipFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShipPartsFactoryBenchmark {
+
+    private final ShipFactory whiteshipFactory = new WhiteshipFactory(new WhiteshipPartsFactory());
+
+    private final ShipFactory whiteshipProFactory = new WhiteshipFactory(new WhitePartsProFactory());
+
+    @Benchmark
+    public Ship createShip() {
+        return whiteshipFactory.createShip();
+    }
+
+    @Benchmark
+    public Ship createProShip() {
+        return whiteshipProFactory.createShip();
+    }
+
+}
@@ -0,0 +1,104 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.w3c.dom.Document;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * sizeMb 크기로 만든 bean 설정 파일을 DOM 과 {@link StaxConfigLoader} 로 읽는 시간.
+ * 할당량은 -prof gc 로, 최대 힙 사용량은 {@link ConfigLoaderFootprint} 로 본다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class ConfigLoaderBenchmark {
+
+    private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(() -> {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @Param({"1", "10", "100"})
+    private int sizeMb;
+
+    private final StaxConfigLoader loader = new StaxConfigLoader();
+
+    private Path config;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.config = generate(sizeMb);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(config);
+    }
+
+    @Benchmark
+    public int dom() throws IOException, SAXException {
+        return parseDom(config).getElementsByTagName("bean").getLength();
+    }
+
+    @Benchmark
+    public long stax(Blackhole blackhole) {
+        return loader.load(config, blackhole::consume);
+    }
+
+    static Document parseDom(Path config) throws IOException, SAXException {
+        DocumentBuilder builder = DOCUMENT_BUILDER.get();
+        builder.reset();
+        return builder.parse(config.toFile());
+    }
+
+    /**
+     * config.xml 과 같은 모양의 bean 을 sizeMb 만큼 채운 임시 파일을 만든다.
+     */
+    static Path generate(int sizeMb) throws IOException {
+        Path config = Files.createTempFile("config-" + sizeMb + "mb-", ".xml");
+        long limit = sizeMb * 1024L * 1024L;
+        try (BufferedWriter writer = Files.newBufferedWriter(config, StandardCharsets.UTF_8)) {
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<beans xmlns=\"http://www.springframework.org/schema/beans\">\n");
+            long written = 0;
+            for (int i = 0; written < limit; i++) {
+                String bean = "    <bean id=\"whiteship" + i + "\" class=\"me.whiteship.designpatterns._02_factory_method._02_after.Whiteship\">\n"
+                        + "        <constructor-arg value=\"whiteship" + i + "\"/>\n"
+                        + "    </bean>\n";
+                writer.write(bean);
+                written += bean.length();
+            }
+            writer.write("</beans>\n");
+        }
+        return config;
+    }
+
+}
@@ -0,0 +1,47 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import me.whiteship.designpatterns.HeapFootprint;
+import org.xml.sax.SAXException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1, 10, 100 MB 설정 파일을 DOM 과 StAX 로 한 번씩 읽으며 걸린 시간과 최대 힙 사용량을 잰다.
+ * <pre>
+ * ./mvnw -Pjmh compile exec:exec \
+ *     -Djmh.main=me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java.ConfigLoaderFootprint
+ * </pre>
+ * 최대 힙은 GC 직후 사용량에서 늘어난 만큼이고, GC 가 중간에 돌면 실제보다 작게 나온다.
+ */
+public class ConfigLoaderFootprint {
+
+    public static void main(String[] args) throws IOException, SAXException {
+        StaxConfigLoader loader = new StaxConfigLoader();
+        System.out.printf("%6s %-6s %10s %14s%n", "MB", "parser", "ms", "peak heap MB");
+        for (int sizeMb : new int[]{1, 10, 100}) {
+            Path config = ConfigLoaderBenchmark.generate(sizeMb);
+            try {
+                long start = HeapFootprint.resetPeak();
+                long began = System.nanoTime();
+                ConfigLoaderBenchmark.parseDom(config).getElementsByTagName("bean").getLength();
+                print(sizeMb, "dom", began, start);
+
+                start = HeapFootprint.resetPeak();
+                began = System.nanoTime();
+                loader.load(config, bean -> {
+                });
+                print(sizeMb, "stax", began, start);
+            } finally {
+                Files.deleteIfExists(config);
+            }
+        }
+    }
+
+    private static void print(int sizeMb, String parser, long began, long start) {
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began);
+        System.out.printf("%6d %-6s %10d %14.1f%n", sizeMb, parser, elapsed, (HeapFootprint.peakHeap() - start) / 1024.0 / 1024.0);
+    }
+}
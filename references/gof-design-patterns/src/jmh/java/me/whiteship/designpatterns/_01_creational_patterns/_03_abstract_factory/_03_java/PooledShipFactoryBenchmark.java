@@ -0,0 +1,44 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매번 배를 만드는 {@link ShipFactory} 와 빌렸다 돌려주는 {@link PooledShipFactory} 의 비용과 할당량(-prof gc).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PooledShipFactoryBenchmark {
+
+    private final ShipFactory shipFactory = new ShipFactory();
+
+    private final PooledShipFactory pooledShipFactory = new PooledShipFactory(16, Duration.ofMillis(10));
+
+    @Benchmark
+    public Ship fresh() throws Exception {
+        return shipFactory.getObject();
+    }
+
+    @Benchmark
+    public Ship pooled() throws Exception {
+        Ship ship = pooledShipFactory.getObject();
+        pooledShipFactory.release(ship);
+        return ship;
+    }
+
+}
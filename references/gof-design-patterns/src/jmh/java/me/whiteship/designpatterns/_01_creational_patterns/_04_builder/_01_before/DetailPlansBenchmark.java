@@ -0,0 +1,85 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after.DefaultTourBuilder;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after.TourPlanBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일정 entries 개(하루 10개)짜리 여행 계획에서 하루 일정을 꺼내는 비용.
+ * listPlans 는 List&lt;DetailPlan&gt; 을 훑고, columnarPlans 는 {@link DetailPlans} 의 날짜별 위치 표를 쓴다.
+ * builderPlans 는 DefaultTourBuilder 에 날짜를 섞어서 넣은 계획이라 날짜 순 위치 표(order)를 거친다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DetailPlansBenchmark {
+
+    private static final int PLANS_PER_DAY = 10;
+
+    @Param({"100", "10000"})
+    private int entries;
+
+    private TourPlan listPlans;
+
+    private TourPlan columnarPlans;
+
+    private TourPlan builderPlans;
+
+    private int day;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<DetailPlan> plans = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            plans.add(new DetailPlan(i / PLANS_PER_DAY, "plan" + i));
+        }
+        this.listPlans = new TourPlan("list", 0, 0, null, null, plans);
+        this.columnarPlans = new TourPlan("columnar", 0, 0, null, null, DetailPlans.copyOf(plans));
+
+        int days = entries / PLANS_PER_DAY;
+        TourPlanBuilder builder = new DefaultTourBuilder().title("builder");
+        for (int i = 0; i < entries; i++) {
+            builder.addPlan(i % days, "plan" + i);
+        }
+        this.builderPlans = builder.getPlan();
+    }
+
+    private int nextDay() {
+        day = day + 1 == entries / PLANS_PER_DAY ? 0 : day + 1;
+        return day;
+    }
+
+    @Benchmark
+    public List<String> listPlans() {
+        return listPlans.plansForDay(nextDay());
+    }
+
+    @Benchmark
+    public List<String> columnarPlans() {
+        return columnarPlans.plansForDay(nextDay());
+    }
+
+    @Benchmark
+    public List<String> builderPlans() {
+        return builderPlans.plansForDay(nextDay());
+    }
+
+}
@@ -0,0 +1,50 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TourDirector 로 여행 계획 천만 개를 만든다. 매번 새 DefaultTourBuilder 를 만드는 경우와
+ * 스레드마다 하나인 {@link ReusableTourBuilder} 를 다시 쓰는 경우를 비교한다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Thread)
+public class TourBuilderReuseBenchmark {
+
+    private static final int PLANS = 10_000_000;
+
+    @Benchmark
+    @OperationsPerInvocation(PLANS)
+    public void newBuilder(Blackhole blackhole) {
+        for (int i = 0; i < PLANS; i++) {
+            TourPlan tourPlan = new TourDirector(new DefaultTourBuilder()).cancunTrip();
+            blackhole.consume(tourPlan);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PLANS)
+    public void reusableBuilder(Blackhole blackhole) {
+        TourDirector director = new TourDirector(ReusableTourBuilder.forCurrentThread());
+        for (int i = 0; i < PLANS; i++) {
+            blackhole.consume(director.cancunTrip());
+        }
+    }
+
+}
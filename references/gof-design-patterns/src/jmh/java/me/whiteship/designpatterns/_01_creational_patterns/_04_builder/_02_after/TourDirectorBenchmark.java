@@ -0,0 +1,37 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TourDirectorBenchmark {
+
+    /**
+     * DefaultTourBuilder 는 addPlan 이 계속 누적되므로 매번 새 빌더로 만든다.
+     */
+    @Benchmark
+    public TourPlan cancunTrip() {
+        return new TourDirector(new DefaultTourBuilder()).cancunTrip();
+    }
+
+    @Benchmark
+    public TourPlan longBeachTrip() {
+        return new TourDirector(new DefaultTourBuilder()).longBeachTrip();
+    }
+
+}
@@ -0,0 +1,94 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행 계획 records 줄짜리 파일을 가져오는 시간.
+ * 파일을 다 읽어 한 줄씩 DefaultTourBuilder 로 만들어 목록에 모으는 경우와 {@link TourPlanImporter} 를 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+@State(Scope.Benchmark)
+public class TourPlanImporterBenchmark {
+
+    @Param({"100000"})
+    private int records;
+
+    @Param({"1", "4"})
+    private int workers;
+
+    private Path tours;
+
+    private TourPlanImporter importer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.tours = generate(records);
+        this.importer = new TourPlanImporter(workers, 1024);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(tours);
+    }
+
+    @Benchmark
+    public List<TourPlan> readAllThenBuild() throws IOException {
+        List<String> lines;
+        try (BufferedReader reader = Files.newBufferedReader(tours, StandardCharsets.UTF_8)) {
+            lines = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        }
+        List<TourPlan> tourPlans = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            tourPlans.add(TourPlanImporter.parse(line, new DefaultTourBuilder()));
+        }
+        return tourPlans;
+    }
+
+    @Benchmark
+    public long streaming(Blackhole blackhole) {
+        return importer.importFrom(tours, blackhole::consume).getRecords();
+    }
+
+    static Path generate(int records) throws IOException {
+        Path tours = Files.createTempFile("tours-" + records + "-", ".tsv");
+        try (BufferedWriter writer = Files.newBufferedWriter(tours, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < records; i++) {
+                writer.write("칸쿤 여행 " + i + "\t2\t3\t2020-12-09\t리조트\t0:체크인하고 짐 풀기\t0:저녁 식사\t1:해변가 산책\t2:체크아웃\n");
+            }
+        }
+        return tours;
+    }
+
+}
@@ -0,0 +1,59 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 칸쿤 여행을 받아 날짜를 바꾸고 일정을 하나 더하는 비용.
+ * 매번 빌더로 새로 만드는 경우와 {@link TourDirector#trip(String)} 의 템플릿 사본을 쓰는 경우를 비교한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TourTemplateBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2021, 12, 9);
+
+    private final TourDirector director = new TourDirector(new DefaultTourBuilder());
+
+    @Benchmark
+    public TourPlan buildEachTime() {
+        return new TourDirector(new DefaultTourBuilder()).cancunTrip();
+    }
+
+    @Benchmark
+    public TourPlan template() {
+        return director.trip("cancun");
+    }
+
+    @Benchmark
+    public TourPlan buildEachTimeAndCustomize() {
+        return customize(new TourDirector(new DefaultTourBuilder()).cancunTrip());
+    }
+
+    @Benchmark
+    public TourPlan templateAndCustomize() {
+        return customize(director.trip("cancun"));
+    }
+
+    private static TourPlan customize(TourPlan tourPlan) {
+        tourPlan.setStartDate(START_DATE);
+        tourPlan.addPlan(1, "해변가 산책");
+        return tourPlan;
+    }
+
+}
@@ -0,0 +1,121 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlans;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+import me.whiteship.designpatterns.support.Renderable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StringBuilderExample 처럼 글자를 빌더에 이어 붙이되, 빌더를 다시 쓰면 할당이 얼마나 주는지 -prof gc 로 본다.
+ * concat 은 문자열 연결, render 는 {@link Renderable#render()}, toString 은 각 클래스의 toString,
+ * appendTo 와 writeTo 는 다시 쓰는 StringBuilder 와 ByteBuffer 에 쓴다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderableBenchmark {
+
+    private final Ship ship = new Ship();
+
+    private final TourPlan tourPlan = new TourPlan("칸쿤 여행", 2, 3, LocalDate.of(2020, 12, 9), "리조트",
+            new DetailPlans.Builder()
+                    .add(0, "체크인하고 짐 풀기")
+                    .add(0, "저녁 식사")
+                    .add(1, "해변가 산책")
+                    .add(2, "체크아웃")
+                    .build());
+
+    private final StringBuilder out = new StringBuilder(512);
+
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+
+    {
+        ship.setName("whiteship");
+        ship.setColor("white");
+        ship.setLogo("🛥");
+    }
+
+    @Benchmark
+    public String shipConcat() {
+        return "Ship{" +
+                "name='" + ship.getName() + '\'' +
+                ", color='" + ship.getColor() + '\'' +
+                ", logo='" + ship.getLogo() + '\'' +
+                '}';
+    }
+
+    @Benchmark
+    public String shipToString() {
+        return ship.toString();
+    }
+
+    @Benchmark
+    public String shipRender() {
+        return ship.render();
+    }
+
+    @Benchmark
+    public int shipAppendTo() {
+        out.setLength(0);
+        ship.appendTo(out);
+        return out.length();
+    }
+
+    @Benchmark
+    public int shipWriteTo() {
+        buffer.clear();
+        return ship.writeTo(buffer);
+    }
+
+    @Benchmark
+    public String tourPlanConcat() {
+        return "TourPlan{" +
+                "title='" + tourPlan.getTitle() + '\'' +
+                ", nights=" + tourPlan.getNights() +
+                ", days=" + tourPlan.getDays() +
+                ", startDate=" + tourPlan.getStartDate() +
+                ", whereToStay='" + tourPlan.getWhereToStay() + '\'' +
+                ", plans=" + tourPlan.getPlans() +
+                '}';
+    }
+
+    @Benchmark
+    public String tourPlanToString() {
+        return tourPlan.toString();
+    }
+
+    @Benchmark
+    public String tourPlanRender() {
+        return tourPlan.render();
+    }
+
+    @Benchmark
+    public int tourPlanAppendTo() {
+        out.setLength(0);
+        tourPlan.appendTo(out);
+        return out.length();
+    }
+
+    @Benchmark
+    public int tourPlanWriteTo() {
+        buffer.clear();
+        return tourPlan.writeTo(buffer);
+    }
+
+}
@@ -0,0 +1,69 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._03_java;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpringExample 의 URI 를 만드는 비용. 매번 UriComponentsBuilder 로 만드는 경우와 {@link PrecompiledUriTemplate} 을 비교한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UriTemplateBenchmark {
+
+    private static final String TEMPLATE = "http://www.whiteship.me/{playlist}/{episode}?sort={sort}";
+
+    private final PrecompiledUriTemplate template = PrecompiledUriTemplate.compile(TEMPLATE);
+
+    private final StringBuilder out = new StringBuilder(128);
+
+    private final String playlist = "java playlist";
+
+    private final int episode = 1;
+
+    private final String sort = "최신순";
+
+    @Benchmark
+    public String springExample() {
+        return UriComponentsBuilder.newInstance()
+                .scheme("http")
+                .host("www.whiteship.me")
+                .path("/" + playlist + "/" + episode)
+                .queryParam("sort", sort)
+                .build().encode().toUriString();
+    }
+
+    @Benchmark
+    public String springTemplate() {
+        return UriComponentsBuilder.fromUriString(TEMPLATE)
+                .encode()
+                .buildAndExpand(playlist, episode, sort)
+                .toUriString();
+    }
+
+    @Benchmark
+    public String precompiled() {
+        return template.expand(playlist, episode, sort);
+    }
+
+    @Benchmark
+    public int precompiledExpandTo() {
+        out.setLength(0);
+        template.expandTo(out, playlist, episode, sort);
+        return out.length();
+    }
+
+}
@@ -0,0 +1,104 @@
+package me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GithubIssueBenchmark {
+
+    private static final int ISSUES = 1000;
+
+    private GithubIssue githubIssue;
+
+    private final List<GithubIssue> githubIssues = new ArrayList<>(ISSUES);
+
+    private final StringBuilder out = new StringBuilder(ISSUES * 64);
+
+    private int nextId;
+
+    @Setup
+    public void setUp() {
+        GithubRepository repository = new GithubRepository();
+        repository.setUser("whiteship");
+        repository.setName("live-study");
+
+        githubIssue = new GithubIssue(repository);
+        githubIssue.setId(1);
+        githubIssue.setTitle("1주차 과제: JVM은 무엇이며 자바 코드는 어떻게 실행하는 것인가.");
+
+        for (int i = 0; i < ISSUES; i++) {
+            GithubIssue issue = new GithubIssue(repository);
+            issue.setId(i);
+            githubIssues.add(issue);
+        }
+    }
+
+    @Benchmark
+    public Object cloneIssue() throws CloneNotSupportedException {
+        return githubIssue.clone();
+    }
+
+    @Benchmark
+    public String getUrl() {
+        return githubIssue.getUrl();
+    }
+
+    /**
+     * 바꾸기 전 getUrl.
+     */
+    @Benchmark
+    public String formatUrl() {
+        return String.format("https://github.com/%s/%s/issues/%d",
+                githubIssue.getRepository().getUser(),
+                githubIssue.getRepository().getName(),
+                githubIssue.getId());
+    }
+
+    /**
+     * setId 로 캐시가 비워진 뒤의 getUrl.
+     */
+    @Benchmark
+    public String getUrlAfterSetId() {
+        githubIssue.setId(nextId++ & 0xFFFF);
+        return githubIssue.getUrl();
+    }
+
+    /**
+     * 이슈 ISSUES 개의 URL 을 한 버퍼에 쓴다.
+     */
+    @Benchmark
+    public int appendUrls() {
+        out.setLength(0);
+        return GithubIssue.appendUrls(githubIssues, out).length();
+    }
+
+    @Benchmark
+    public int formatUrls() {
+        out.setLength(0);
+        for (GithubIssue issue : githubIssues) {
+            out.append(String.format("https://github.com/%s/%s/issues/%d",
+                    issue.getRepository().getUser(),
+                    issue.getRepository().getName(),
+                    issue.getId())).append('\n');
+        }
+        return out.length();
+    }
+
+}
@@ -0,0 +1,59 @@
+package me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 저장소의 이슈 하나를 백만 번 복제해서 붙잡아 둔다. 저장소까지 복사하는 clone 과 저장소를 나눠 쓰는
+ * {@link GithubIssue#cloneSharingRepository()} 를 비교한다. 사본당 힙은 -prof gc 의 B/op 나
+ * {@link GithubIssueCloneFootprint} 로 본다.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class GithubIssueCloneBenchmark {
+
+    static final int ISSUES = 1_000_000;
+
+    private GithubIssue githubIssue;
+
+    @Setup
+    public void setUp() {
+        githubIssue = GithubIssueCloneFootprint.source();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ISSUES)
+    public GithubIssue[] deepClone() throws CloneNotSupportedException {
+        GithubIssue[] clones = new GithubIssue[ISSUES];
+        for (int i = 0; i < ISSUES; i++) {
+            clones[i] = (GithubIssue) githubIssue.clone();
+        }
+        return clones;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ISSUES)
+    public GithubIssue[] sharingRepository() {
+        GithubIssue[] clones = new GithubIssue[ISSUES];
+        for (int i = 0; i < ISSUES; i++) {
+            clones[i] = githubIssue.cloneSharingRepository();
+        }
+        return clones;
+    }
+
+}
@@ -0,0 +1,35 @@
+package me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after;
+
+import me.whiteship.designpatterns.HeapFootprint;
+
+/**
+ * 이슈 사본 issues 개(인자 중 첫 숫자, 기본 백만)를 붙잡아 둔 채로 힙 사용량을 재서 저장소를 복사할 때와 나눠 쓸 때를 비교한다.
+ * <pre>
+ * ./mvnw -Pjmh compile exec:exec \
+ *     -Djmh.main=me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after.GithubIssueCloneFootprint \
+ *     -Djmh.args=1000000
+ * </pre>
+ */
+public class GithubIssueCloneFootprint {
+
+    public static void main(String[] args) throws Exception {
+        int issues = HeapFootprint.count(args, GithubIssueCloneBenchmark.ISSUES);
+
+        GithubIssue githubIssue = source();
+        long deep = HeapFootprint.retained(issues, githubIssue::clone);
+        long shared = HeapFootprint.retained(issues, githubIssue::cloneSharingRepository);
+
+        HeapFootprint.printComparison("clone", "bytes/issue", issues, "deep", deep, "shared", shared);
+    }
+
+    static GithubIssue source() {
+        GithubRepository repository = new GithubRepository();
+        repository.setUser("whiteship");
+        repository.setName("live-study");
+
+        GithubIssue githubIssue = new GithubIssue(repository);
+        githubIssue.setId(1);
+        githubIssue.setTitle("1주차 과제: JVM은 무엇이며 자바 코드는 어떻게 실행하는 것인가.");
+        return githubIssue;
+    }
+}
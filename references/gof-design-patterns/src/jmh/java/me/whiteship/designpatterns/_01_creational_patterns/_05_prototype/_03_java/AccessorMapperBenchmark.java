@@ -0,0 +1,76 @@
+package me.whiteship.designpatterns._01_creational_patterns._05_prototype._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after.GithubIssue;
+import me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after.GithubRepository;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ModelMapperExample 의 GithubIssue 를 GithubIssueData 로 옮기는 비용. ModelMapper, {@link AccessorMapper},
+ * 직접 짠 코드를 비교한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessorMapperBenchmark {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+
+    private final AccessorMapper accessorMapper = new AccessorMapper();
+
+    private final Function<GithubIssue, GithubIssueData> issueMapper = accessorMapper.mapperFor(GithubIssue.class, GithubIssueData.class);
+
+    private GithubIssue githubIssue;
+
+    @Setup
+    public void setUp() {
+        GithubRepository repository = new GithubRepository();
+        repository.setUser("whiteship");
+        repository.setName("live-study");
+
+        githubIssue = new GithubIssue(repository);
+        githubIssue.setId(1);
+        githubIssue.setTitle("1주차 과제: JVM은 무엇이며 자바 코드는 어떻게 실행하는 것인가.");
+    }
+
+    @Benchmark
+    public GithubIssueData modelMapper() {
+        return modelMapper.map(githubIssue, GithubIssueData.class);
+    }
+
+    @Benchmark
+    public GithubIssueData accessorMapper() {
+        return accessorMapper.map(githubIssue, GithubIssueData.class);
+    }
+
+    @Benchmark
+    public GithubIssueData accessorMapperFor() {
+        return issueMapper.apply(githubIssue);
+    }
+
+    @Benchmark
+    public GithubIssueData handWritten() {
+        GithubIssueData githubIssueData = new GithubIssueData();
+        githubIssueData.setId(githubIssue.getId());
+        githubIssueData.setTitle(githubIssue.getTitle());
+        githubIssueData.setRepositoryUser(githubIssue.getRepository().getUser());
+        githubIssueData.setRepositoryName(githubIssue.getRepository().getName());
+        return githubIssueData;
+    }
+
+}
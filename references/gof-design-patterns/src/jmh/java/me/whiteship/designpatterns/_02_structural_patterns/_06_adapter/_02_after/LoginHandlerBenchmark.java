@@ -0,0 +1,31 @@
+package me.whiteship.designpatterns._02_structural_patterns._06_adapter._02_after;
+
+import me.whiteship.designpatterns._02_structural_patterns._06_adapter._02_after.security.LoginHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginHandlerBenchmark {
+
+    private final LoginHandler loginHandler = new LoginHandler(new AccountUserDetailsService(new AccountService()));
+
+    @Benchmark
+    public String login() {
+        return loginHandler.login("keesun", "keesun");
+    }
+
+}
@@ -0,0 +1,39 @@
+package me.whiteship.designpatterns._02_structural_patterns._07_bridge._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import me.whiteship.designpatterns._02_structural_patterns._07_bridge._01_before.Champion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChampionBenchmark extends SilentBenchmark {
+
+    private final Champion kda = new 아리(new KDA());
+
+    private final Champion poolParty = new 아칼리(new PoolParty());
+
+    @Benchmark
+    public void kdaSkillQ() {
+        kda.skillQ();
+    }
+
+    @Benchmark
+    public void poolPartySkillR() {
+        poolParty.skillR();
+    }
+
+}
@@ -0,0 +1,50 @@
+package me.whiteship.designpatterns._02_structural_patterns._08_composite._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BagBenchmark {
+
+    @Param({"10", "1000"})
+    private int items;
+
+    private Bag bag;
+
+    @Setup
+    public void setUp() {
+        bag = new Bag();
+        Bag pouch = new Bag();
+        for (int i = 0; i < items; i++) {
+            Item item = new Item("도란검", 450 + i);
+            if (i % 2 == 0) {
+                bag.add(item);
+            } else {
+                pouch.add(item);
+            }
+        }
+        bag.add(pouch);
+    }
+
+    @Benchmark
+    public int getPrice() {
+        return bag.getPrice();
+    }
+
+}
@@ -0,0 +1,37 @@
+package me.whiteship.designpatterns._02_structural_patterns._09_decorator._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CommentServiceBenchmark extends SilentBenchmark {
+
+    private final CommentService commentService =
+            new TrimmingCommentDecorator(new SpamFilteringCommentDecorator(new DefaultCommentService()));
+
+    @Benchmark
+    public void addComment() {
+        commentService.addComment("보는게 하는거 보다 재밌을 수가 없지...");
+    }
+
+    @Benchmark
+    public void addSpamComment() {
+        commentService.addComment("http://whiteship.me");
+    }
+
+}
@@ -0,0 +1,76 @@
+package me.whiteship.designpatterns._02_structural_patterns._10_facade._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.mail.Address;
+import javax.mail.Message;
+import javax.mail.Provider;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.URLName;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMTP 서버 없이 퍼사드가 메시지를 만드는 비용만 측정한다. 전송은 아무 일도 하지 않는 Transport 로 바꿔치기 한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EmailSenderBenchmark {
+
+    private EmailSender emailSender;
+
+    private EmailMessage emailMessage;
+
+    @Setup
+    public void setUp() {
+        Session.getDefaultInstance(System.getProperties())
+                .addProvider(new Provider(Provider.Type.TRANSPORT, "nop", NopTransport.class.getName(), "whiteship", null));
+        System.setProperty("mail.transport.protocol.rfc822", "nop");
+
+        EmailSettings emailSettings = new EmailSettings();
+        emailSettings.setHost("127.0.0.1");
+        emailSender = new EmailSender(emailSettings);
+
+        emailMessage = new EmailMessage();
+        emailMessage.setFrom("keesun@mail.com");
+        emailMessage.setTo("whiteship@mail.com");
+        emailMessage.setCc("ilnam@mail.com");
+        emailMessage.setSubject("오징어게임");
+        emailMessage.setText("밖은 더 지옥이더라고..");
+    }
+
+    @Benchmark
+    public void sendEmail() {
+        emailSender.sendEmail(emailMessage);
+    }
+
+    public static class NopTransport extends Transport {
+
+        public NopTransport(Session session, URLName urlName) {
+            super(session, urlName);
+        }
+
+        @Override
+        protected boolean protocolConnect(String host, int port, String user, String password) {
+            return true;
+        }
+
+        @Override
+        public void sendMessage(Message message, Address[] addresses) {
+        }
+    }
+
+}
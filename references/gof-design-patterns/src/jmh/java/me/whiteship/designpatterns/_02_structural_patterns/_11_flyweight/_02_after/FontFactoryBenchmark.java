@@ -0,0 +1,47 @@
+package me.whiteship.designpatterns._02_structural_patterns._11_flyweight._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FontFactoryBenchmark {
+
+    private FontFactory fontFactory;
+
+    @Setup
+    public void setUp() {
+        fontFactory = new FontFactory();
+        fontFactory.getFont("nanum:12");
+    }
+
+    @Benchmark
+    public Font getCachedFont() {
+        return fontFactory.getFont("nanum:12");
+    }
+
+    @Benchmark
+    public Font getNewFont() {
+        return new FontFactory().getFont("nanum:12");
+    }
+
+    @Benchmark
+    public Character newCharacter() {
+        return new Character('h', "white", fontFactory.getFont("nanum:12"));
+    }
+
+}
@@ -0,0 +1,35 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._13_chain_of_responsibilities._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import me.whiteship.designpatterns._03_behavioral_patterns._13_chain_of_responsibilities._01_before.Request;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestHandlerBenchmark extends SilentBenchmark {
+
+    private final RequestHandler chain =
+            new AuthRequestHandler(new LoggingRequestHandler(new PrintRequestHandler(null)));
+
+    private final Request request = new Request("이번 놀이는 뽑기입니다.");
+
+    @Benchmark
+    public void handle() {
+        chain.handle(request);
+    }
+
+}
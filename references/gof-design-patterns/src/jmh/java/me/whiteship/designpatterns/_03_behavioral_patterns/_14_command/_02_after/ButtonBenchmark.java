@@ -0,0 +1,43 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._14_command._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import me.whiteship.designpatterns._03_behavioral_patterns._14_command._01_before.Game;
+import me.whiteship.designpatterns._03_behavioral_patterns._14_command._01_before.Light;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ButtonBenchmark extends SilentBenchmark {
+
+    private final Button button = new Button();
+
+    private final Command gameStart = new GameStartCommand(new Game());
+
+    private final Command lightOn = new LightOnCommand(new Light());
+
+    /**
+     * press 한 만큼 undo 해서 커맨드 스택이 계속 커지지 않게 한다.
+     */
+    @Benchmark
+    public void pressAndUndo() {
+        button.press(gameStart);
+        button.press(lightOn);
+        button.undo();
+        button.undo();
+    }
+
+}
@@ -0,0 +1,38 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._15_interpreter._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PostfixExpressionBenchmark {
+
+    private final Map<Character, Integer> context = Map.of('x', 1, 'y', 2, 'z', 3, 'a', 4);
+
+    private final PostfixExpression expression = PostfixParser.parse("xyz+-a+");
+
+    @Benchmark
+    public PostfixExpression parse() {
+        return PostfixParser.parse("xyz+-a+");
+    }
+
+    @Benchmark
+    public int interpret() {
+        return expression.interpret(context);
+    }
+
+}
@@ -0,0 +1,49 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._16_iterator._02_after;
+
+import me.whiteship.designpatterns._03_behavioral_patterns._16_iterator._01_before.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecentPostIteratorBenchmark {
+
+    @Param({"10", "1000"})
+    private int posts;
+
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        board = new Board();
+        for (int i = 0; i < posts; i++) {
+            board.addPost("디자인 패턴 " + i);
+        }
+    }
+
+    @Benchmark
+    public void iterateRecentPosts(Blackhole blackhole) {
+        Iterator<Post> iterator = board.getRecentPostIterator();
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._18_memento._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameBenchmark {
+
+    private final Game game = new Game();
+
+    @Benchmark
+    public GameSave save() {
+        return game.save();
+    }
+
+    @Benchmark
+    public int saveAndRestore() {
+        GameSave save = game.save();
+        game.setBlueTeamScore(12);
+        game.setRedTeamScore(22);
+        game.restore(save);
+        return game.getBlueTeamScore();
+    }
+
+}
@@ -0,0 +1,79 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._18_memento._03_java;
+
+import me.whiteship.designpatterns._03_behavioral_patterns._18_memento._01_before.Game;
+import me.whiteship.designpatterns._03_behavioral_patterns._18_memento._02_after.GameSave;
+import me.whiteship.designpatterns.support.Codec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MementoInJava 의 Java 직렬화와 {@link GameCodec}, {@link GameSaveCodec} 의 왕복 처리량.
+ * 객체당 바이트 수는 셋업에서 출력한다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GameCodecBenchmark {
+
+    private final Codec<Game> gameCodec = new GameCodec();
+
+    private final Codec<GameSave> gameSaveCodec = new GameSaveCodec();
+
+    private final GameSave gameSave = new GameSave(20, 10);
+
+    private Game game;
+
+    @Setup
+    public void setUp() throws IOException {
+        game = new Game();
+        game.setRedTeamScore(10);
+        game.setBlueTeamScore(20);
+
+        System.out.printf("Game bytes: java serialization=%d, codec=%d, GameSave codec=%d%n",
+                serialize(game).length, gameCodec.encode(game).length, gameSaveCodec.encode(gameSave).length);
+    }
+
+    @Benchmark
+    public Game javaSerialization() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(game)))) {
+            return (Game) in.readObject();
+        }
+    }
+
+    @Benchmark
+    public Game gameCodec() throws IOException {
+        return gameCodec.decode(gameCodec.encode(game));
+    }
+
+    @Benchmark
+    public GameSave gameSaveCodec() throws IOException {
+        return gameSaveCodec.decode(gameSaveCodec.encode(gameSave));
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        return bytes.toByteArray();
+    }
+
+}
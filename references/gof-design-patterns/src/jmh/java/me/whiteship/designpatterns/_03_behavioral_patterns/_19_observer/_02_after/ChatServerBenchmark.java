@@ -0,0 +1,55 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._19_observer._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatServerBenchmark {
+
+    @Param({"1", "100"})
+    private int subscribers;
+
+    private ChatServer chatServer;
+
+    private User user;
+
+    private int received;
+
+    @Setup
+    public void setUp() {
+        chatServer = new ChatServer();
+        user = new User("keesun");
+        for (int i = 0; i < subscribers; i++) {
+            chatServer.register("오징어게임", message -> received += message.length());
+        }
+    }
+
+    @Benchmark
+    public int sendMessage() {
+        chatServer.sendMessage(user, "오징어게임", "아.. 이름이 기억났어.. 일남이야.. 오일남");
+        return received;
+    }
+
+    @Benchmark
+    public void registerAndUnregister() {
+        chatServer.register("디자인패턴", user);
+        chatServer.unregister("디자인패턴", user);
+    }
+
+}
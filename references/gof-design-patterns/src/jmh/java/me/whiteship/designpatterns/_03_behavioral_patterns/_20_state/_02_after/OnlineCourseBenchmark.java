@@ -0,0 +1,39 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._20_state._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OnlineCourseBenchmark {
+
+    /**
+     * Draft 에서 두 번째 학생이 들어오면 Private 으로 바뀌고, 수강생만 리뷰를 남긴다.
+     */
+    @Benchmark
+    public OnlineCourse draftToPrivate() {
+        OnlineCourse onlineCourse = new OnlineCourse();
+        Student whiteship = new Student("whiteship");
+        Student keesun = new Student("keesun");
+        keesun.addPrivate(onlineCourse);
+
+        onlineCourse.addStudent(whiteship);
+        onlineCourse.addStudent(keesun);
+        onlineCourse.addReview("hello", whiteship);
+        return onlineCourse;
+    }
+
+}
@@ -0,0 +1,42 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._21_strategy._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlueLightRedLightBenchmark extends SilentBenchmark {
+
+    private final BlueLightRedLight game = new BlueLightRedLight();
+
+    private final Speed normal = new Normal();
+
+    private final Speed fastest = new Fastest();
+
+    @Benchmark
+    public void normal() {
+        game.blueLight(normal);
+        game.redLight(normal);
+    }
+
+    @Benchmark
+    public void fastest() {
+        game.blueLight(fastest);
+        game.redLight(fastest);
+    }
+
+}
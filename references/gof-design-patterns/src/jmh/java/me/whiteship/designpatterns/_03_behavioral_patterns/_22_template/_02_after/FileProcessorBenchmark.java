@@ -0,0 +1,33 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._22_template._02_after;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트 루트의 number.txt 를 읽는다. exec:exec 는 프로젝트 루트에서 실행된다.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FileProcessorBenchmark {
+
+    private final FileProcessor fileProcessor = new Multiply("number.txt");
+
+    @Benchmark
+    public int process() {
+        return fileProcessor.process(new Plus());
+    }
+
+}
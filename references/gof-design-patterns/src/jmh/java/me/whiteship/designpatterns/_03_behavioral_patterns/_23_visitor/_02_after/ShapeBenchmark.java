@@ -0,0 +1,37 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._23_visitor._02_after;
+
+import me.whiteship.designpatterns.SilentBenchmark;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShapeBenchmark extends SilentBenchmark {
+
+    private final Shape[] shapes = {new Circle(), new Rectangle(), new Triangle()};
+
+    private final Device[] devices = {new Phone(), new Pad(), new Watch()};
+
+    @Benchmark
+    public void accept() {
+        for (Shape shape : shapes) {
+            for (Device device : devices) {
+                shape.accept(device);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import me.whiteship.designpatterns.support.Codec;
+
+import java.io.*;
+
+public class CodecApp {
+
+    public static void main(String[] args) throws IOException {
+        Settings5 settings = Settings5.INSTANCE;
+        Codec<Settings5> codec = new Settings5Codec();
+
+        Settings5 settings1 = null;
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream("settings.bin"))) {
+            codec.write(settings, out);
+        }
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream("settings.bin"))) {
+            settings1 = codec.read(in);
+        }
+
+        System.out.println(settings == settings1);
+    }
+
+}
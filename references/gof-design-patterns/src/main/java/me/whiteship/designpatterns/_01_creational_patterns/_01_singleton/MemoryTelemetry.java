@@ -0,0 +1,320 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RuntimeExample 을 키운 JVM 메모리/GC 텔레메트리 싱글톤.
+ * 정해진 간격으로 힙 사용량, 할당량, GC 횟수와 시간, 스레드 수를 고정 크기 링 버퍼(원시 타입 배열)에 기록한다.
+ * 간격과 버퍼 크기는 -Dtelemetry.interval.ms, -Dtelemetry.capacity 로 바꿀 수 있다.
+ * 버퍼에 남은 샘플은 {@link #getHistory(int)} 와 JMX History 속성으로 볼 수 있다.
+ */
+public class MemoryTelemetry implements MemoryTelemetryMXBean {
+
+    private static final String OBJECT_NAME = "me.whiteship.designpatterns:type=MemoryTelemetry";
+
+    private final Runtime runtime = Runtime.getRuntime();
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    private final GarbageCollectorMXBean[] garbageCollectors =
+            ManagementFactory.getGarbageCollectorMXBeans().toArray(new GarbageCollectorMXBean[0]);
+
+    private final int capacity;
+
+    private final long[] timestamps;
+
+    private final long[] heapUsed;
+
+    private final long[] allocatedBytes;
+
+    private final long[] gcCount;
+
+    private final long[] gcTimeMillis;
+
+    private final int[] threadCount;
+
+    private final ThreadGroup rootGroup = rootGroup();
+
+    /**
+     * 샘플러 스레드만 쓰는 작업 공간. 스레드 수가 늘 때만 다시 만든다.
+     */
+    private Thread[] threads = new Thread[64];
+
+    private long[] seenIds = new long[64];
+
+    private long[] seenBytes = new long[64];
+
+    private int seen;
+
+    private long[] nextIds = new long[64];
+
+    private long[] nextBytes = new long[64];
+
+    /**
+     * 스레드별 할당량 증가분을 더해 온 누적 값. 끝난 스레드가 이미 할당한 양도 남는다.
+     */
+    private long allocatedTotal;
+
+    /**
+     * 기록이 끝난 샘플 수. 샘플러 스레드만 쓰고, volatile 쓰기로 슬롯 내용을 읽는 쪽에 공개한다.
+     */
+    private volatile long sampleCount;
+
+    private ScheduledExecutorService scheduler;
+
+    MemoryTelemetry(int capacity) {
+        if (capacity < 3) {
+            throw new IllegalArgumentException("링 버퍼 크기는 3 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.heapUsed = new long[capacity];
+        this.allocatedBytes = new long[capacity];
+        this.gcCount = new long[capacity];
+        this.gcTimeMillis = new long[capacity];
+        this.threadCount = new int[capacity];
+    }
+
+    private static class MemoryTelemetryHolder {
+        private static final MemoryTelemetry INSTANCE = create();
+
+        private static MemoryTelemetry create() {
+            MemoryTelemetry telemetry = new MemoryTelemetry(Integer.getInteger("telemetry.capacity", 256));
+            telemetry.start(Long.getLong("telemetry.interval.ms", 1000));
+            return telemetry;
+        }
+    }
+
+    public static MemoryTelemetry getInstance() {
+        return MemoryTelemetryHolder.INSTANCE;
+    }
+
+    synchronized void start(long intervalMillis) {
+        if (this.scheduler != null) {
+            return;
+        }
+
+        sample();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "memory-telemetry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException e) {
+            throw new IllegalStateException(OBJECT_NAME + " MBean 을 등록할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 한 번 샘플링한다. 샘플러 스레드 하나에서만 호출한다.
+     */
+    void sample() {
+        long count = this.sampleCount;
+        int slot = (int) (count % capacity);
+
+        long collections = 0;
+        long collectionTime = 0;
+        for (GarbageCollectorMXBean garbageCollector : garbageCollectors) {
+            collections += Math.max(0, garbageCollector.getCollectionCount());
+            collectionTime += Math.max(0, garbageCollector.getCollectionTime());
+        }
+
+        timestamps[slot] = System.nanoTime();
+        heapUsed[slot] = runtime.totalMemory() - runtime.freeMemory();
+        allocatedBytes[slot] = allocatedBytes();
+        gcCount[slot] = collections;
+        gcTimeMillis[slot] = collectionTime;
+        threadCount[slot] = threadMXBean.getThreadCount();
+
+        this.sampleCount = count + 1;
+    }
+
+    /**
+     * 지난 샘플 이후 스레드별 할당량 증가분을 누적한 값. 지원하지 않는 JVM 이면 0.
+     * 끝난 스레드의 몫은 마지막으로 본 값까지 남지만, 그 뒤 끝나기 전까지 할당한 양과
+     * 샘플 간격보다 짧게 살다 간 스레드의 할당은 빠지므로 실제보다 작게 나오는 추정치다.
+     * 스레드 목록은 재사용 배열에 열거하고 스레드별로 조회해 샘플마다 배열을 새로 만들지 않는다.
+     */
+    private long allocatedBytes() {
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+
+        com.sun.management.ThreadMXBean sunThreadMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!sunThreadMXBean.isThreadAllocatedMemorySupported() || !sunThreadMXBean.isThreadAllocatedMemoryEnabled()) {
+            return 0;
+        }
+
+        int size = rootGroup.enumerate(threads, true);
+        while (size == threads.length) {
+            threads = new Thread[threads.length * 2];
+            size = rootGroup.enumerate(threads, true);
+        }
+        if (nextIds.length < size) {
+            nextIds = new long[threads.length];
+            nextBytes = new long[threads.length];
+        }
+
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            long id = threads[i].getId();
+            threads[i] = null;
+            long bytes = sunThreadMXBean.getThreadAllocatedBytes(id);
+            if (bytes < 0) {
+                continue;
+            }
+
+            long delta = bytes - previousBytes(id, next);
+            if (delta > 0) {
+                allocatedTotal += delta;
+            }
+            nextIds[next] = id;
+            nextBytes[next] = bytes;
+            next++;
+        }
+
+        long[] ids = seenIds;
+        long[] bytes = seenBytes;
+        seenIds = nextIds;
+        seenBytes = nextBytes;
+        seen = next;
+        nextIds = ids;
+        nextBytes = bytes;
+        return allocatedTotal;
+    }
+
+    /**
+     * 지난 샘플에서 본 스레드의 할당량. 열거 순서는 대개 그대로라 같은 위치부터 확인한다.
+     */
+    private long previousBytes(long id, int hint) {
+        if (hint < seen && seenIds[hint] == id) {
+            return seenBytes[hint];
+        }
+        for (int i = 0; i < seen; i++) {
+            if (seenIds[i] == id) {
+                return seenBytes[i];
+            }
+        }
+        return 0;
+    }
+
+    private static ThreadGroup rootGroup() {
+        ThreadGroup group = Thread.currentThread().getThreadGroup();
+        while (group.getParent() != null) {
+            group = group.getParent();
+        }
+        return group;
+    }
+
+    public TelemetrySnapshot getSnapshot() {
+        long count = this.sampleCount;
+        if (count == 0) {
+            return new TelemetrySnapshot(0, 0, runtime.maxMemory(), 0, 0, 0, 0);
+        }
+        return snapshotAt(count - 1);
+    }
+
+    /**
+     * 링 버퍼에 남은 최근 샘플을 오래된 것부터 최대 limit 개 돌려준다.
+     * 읽는 동안 샘플러가 덮어썼을 수 있는 가장 오래된 칸은 뺀다.
+     */
+    public List<TelemetrySnapshot> getHistory(int limit) {
+        long count = this.sampleCount;
+        long from = Math.max(0, count - Math.min(Math.max(0, limit), capacity - 2));
+        List<TelemetrySnapshot> history = new ArrayList<>((int) (count - from));
+        for (long index = from; index < count; index++) {
+            history.add(snapshotAt(index));
+        }
+
+        long overwritten = this.sampleCount - capacity + 2 - from;
+        if (overwritten > 0) {
+            history.subList(0, (int) Math.min(overwritten, history.size())).clear();
+        }
+        return history;
+    }
+
+    /**
+     * index 번째 샘플. 할당 속도는 바로 앞 샘플과의 차이로 계산한다.
+     */
+    private TelemetrySnapshot snapshotAt(long index) {
+        int slot = (int) (index % capacity);
+        long allocationRate = 0;
+        if (index > 0) {
+            int previous = (int) ((index - 1) % capacity);
+            long elapsedNanos = timestamps[slot] - timestamps[previous];
+            long allocated = allocatedBytes[slot] - allocatedBytes[previous];
+            if (elapsedNanos > 0 && allocated > 0) {
+                allocationRate = (long) (allocated * (TimeUnit.SECONDS.toNanos(1) / (double) elapsedNanos));
+            }
+        }
+
+        return new TelemetrySnapshot(index + 1, heapUsed[slot], runtime.maxMemory(), allocationRate,
+                gcCount[slot], gcTimeMillis[slot], threadCount[slot]);
+    }
+
+    /**
+     * 큰 배치 작업 전에 최근 샘플 기준으로 힙에 bytes 만큼 여유가 있는지 확인한다.
+     */
+    public boolean hasHeadroom(long bytes) {
+        return getSnapshot().getHeapHeadroom() >= bytes;
+    }
+
+    @Override
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    @Override
+    public long getHeapUsed() {
+        return getSnapshot().getHeapUsed();
+    }
+
+    @Override
+    public long getHeapMax() {
+        return runtime.maxMemory();
+    }
+
+    @Override
+    public long getHeapHeadroom() {
+        return getSnapshot().getHeapHeadroom();
+    }
+
+    @Override
+    public long getAllocationRate() {
+        return getSnapshot().getAllocationRate();
+    }
+
+    @Override
+    public long getGcCount() {
+        return getSnapshot().getGcCount();
+    }
+
+    @Override
+    public long getGcTimeMillis() {
+        return getSnapshot().getGcTimeMillis();
+    }
+
+    @Override
+    public int getThreadCount() {
+        return getSnapshot().getThreadCount();
+    }
+
+    @Override
+    public List<TelemetrySnapshot> getHistory() {
+        return getHistory(capacity);
+    }
+
+}
@@ -0,0 +1,28 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import java.util.List;
+
+/**
+ * JMX 로 보이는 {@link MemoryTelemetry} 의 최근 샘플 값과 링 버퍼에 남은 샘플 기록
+ */
+public interface MemoryTelemetryMXBean {
+
+    long getSampleCount();
+
+    long getHeapUsed();
+
+    long getHeapMax();
+
+    long getHeapHeadroom();
+
+    long getAllocationRate();
+
+    long getGcCount();
+
+    long getGcTimeMillis();
+
+    int getThreadCount();
+
+    List<TelemetrySnapshot> getHistory();
+
+}
@@ -0,0 +1,251 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로퍼티 파일을 읽어 만든 {@link SettingsSnapshot} 을 volatile 참조 하나로 공개하는 싱글톤.
+ * 읽는 쪽은 락 없이 현재 스냅샷을 읽고, 파일이 바뀌면 새 스냅샷을 만들어 참조만 바꿔 끼운다.
+ * 파일 위치는 -Dsettings.path 로 바꿀 수 있다.
+ * 한 번 숫자로 읽은 키는 기억해 두었다가, 다시 읽은 파일에서 그 값이 숫자가 아니면 새 스냅샷을 쓰지 않고 실패로 남긴다.
+ */
+public class ReloadableSettings implements Closeable {
+
+    private static final String PATH_PROPERTY = "settings.path";
+
+    private static final String DEFAULT_PATH = "settings.properties";
+
+    private static final long QUIET_MILLIS = 50;
+
+    private final Path path;
+
+    private volatile SettingsSnapshot snapshot = SettingsSnapshot.EMPTY;
+
+    private WatchService watchService;
+
+    private volatile RuntimeException reloadFailure;
+
+    private volatile RuntimeException watchFailure;
+
+    /**
+     * getInt, getLong, getDouble 로 읽은 적이 있는 키와 그 종류. reload 가 새 값을 확인할 때 쓴다.
+     */
+    private final Map<String, SettingsSnapshot.Kind> numericKeys = new ConcurrentHashMap<>();
+
+    ReloadableSettings(Path path) {
+        this.path = path.toAbsolutePath();
+    }
+
+    private static class ReloadableSettingsHolder {
+        private static final ReloadableSettings INSTANCE = create();
+
+        /**
+         * 여기서 예외가 나가면 클래스 초기화가 실패해서 getInstance 가 JVM 이 끝날 때까지 NoClassDefFoundError 를 던진다.
+         * 그래서 읽기나 지켜보기가 실패해도 기록만 하고 빈 설정이나 지켜보지 않는 상태로 시작한다.
+         */
+        private static ReloadableSettings create() {
+            ReloadableSettings settings = new ReloadableSettings(Path.of(System.getProperty(PATH_PROPERTY, DEFAULT_PATH)));
+            try {
+                settings.reload();
+            } catch (RuntimeException e) {
+                settings.reloadFailure = e;
+            }
+            try {
+                settings.watch();
+            } catch (RuntimeException e) {
+                settings.watchFailure = e;
+            }
+            return settings;
+        }
+    }
+
+    public static ReloadableSettings getInstance() {
+        return ReloadableSettingsHolder.INSTANCE;
+    }
+
+    public SettingsSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    public String getString(String key, String defaultValue) {
+        return snapshot.getString(key, defaultValue);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        expect(key, SettingsSnapshot.Kind.INT);
+        return snapshot.getInt(key, defaultValue);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        expect(key, SettingsSnapshot.Kind.LONG);
+        return snapshot.getLong(key, defaultValue);
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        expect(key, SettingsSnapshot.Kind.DOUBLE);
+        return snapshot.getDouble(key, defaultValue);
+    }
+
+    private void expect(String key, SettingsSnapshot.Kind kind) {
+        if (numericKeys.get(key) != kind) {
+            numericKeys.put(key, kind);
+        }
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return snapshot.getBoolean(key, defaultValue);
+    }
+
+    /**
+     * 파일을 다시 읽어 새 스냅샷으로 바꾼다. 파일이 없으면 빈 설정이 된다.
+     * 숫자로 읽던 키의 값이 숫자가 아니면 NumberFormatException 을 던지고 이전 스냅샷을 그대로 둔다.
+     * 쓰는 쪽끼리만 동기화하고 읽는 쪽은 기다리지 않는다.
+     */
+    public SettingsSnapshot reload() {
+        return reload(true);
+    }
+
+    private synchronized SettingsSnapshot reload(boolean missingIsEmpty) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (NoSuchFileException e) {
+            if (!missingIsEmpty) {
+                throw new UncheckedIOException(path + " 설정 파일이 없어서 이전 설정을 그대로 씁니다.", e);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(path + " 설정 파일을 읽을 수 없습니다.", e);
+        }
+
+        Map<String, String> values = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            values.put(name, properties.getProperty(name));
+        }
+
+        SettingsSnapshot reloaded = new SettingsSnapshot(this.snapshot.getVersion() + 1, values);
+        numericKeys.forEach(reloaded::check);
+        this.snapshot = reloaded;
+        this.reloadFailure = null;
+        return reloaded;
+    }
+
+    /**
+     * 파일이 바뀌어서 다시 읽다가 난 마지막 예외. 직접 부르는 reload 처럼 UncheckedIOException 등을 그대로 담고,
+     * 그동안은 이전 스냅샷을 계속 쓴다. 지켜보다가 파일이 없어졌을 때도 빈 설정으로 바꾸지 않고 여기에 남긴다.
+     * 다음에 다시 읽는 데 성공하면 null 이다.
+     */
+    public RuntimeException getReloadFailure() {
+        return reloadFailure;
+    }
+
+    /**
+     * getInstance 가 처음 만들 때 지켜보기를 시작하지 못한 이유. 그때는 파일이 바뀌어도 다시 읽지 않는다.
+     */
+    public RuntimeException getWatchFailure() {
+        return watchFailure;
+    }
+
+    /**
+     * 파일이 있는 디렉토리를 WatchService 로 지켜보다가 파일이 생기거나 바뀌면 다시 읽는다.
+     * 지워진 것은 보지 않는다. 편집기가 지우고 새로 만들어 저장해도 만들 때 다시 읽는다.
+     */
+    public synchronized void watch() {
+        if (this.watchService != null) {
+            return;
+        }
+
+        WatchService watchService = null;
+        try {
+            watchService = path.getFileSystem().newWatchService();
+            path.getParent().register(watchService,
+                    StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            closeQuietly(watchService);
+            throw new UncheckedIOException(path.getParent() + " 디렉토리를 지켜볼 수 없습니다.", e);
+        }
+        this.watchService = watchService;
+
+        // close 가 필드를 먼저 비울 수 있으므로 스레드는 필드가 아니라 지역 변수를 본다.
+        WatchService watched = watchService;
+        Thread watcher = new Thread(() -> watchLoop(watched), "settings-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+    }
+
+    private void watchLoop(WatchService watchService) {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                boolean changed = false;
+                // 파일 하나를 저장해도 비우고 쓰는 이벤트가 여러 번 오므로, 잠잠해질 때까지 모은 뒤 한 번만 읽는다.
+                while (key != null) {
+                    changed |= touchesFile(key);
+                    if (!key.reset()) {
+                        return;
+                    }
+                    key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (changed) {
+                    try {
+                        reload(false);
+                    } catch (RuntimeException e) {
+                        reloadFailure = e;
+                    }
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    private boolean touchesFile(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || path.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static void closeQuietly(WatchService watchService) {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            // 등록하다 실패한 쪽의 예외를 던진다.
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (this.watchService != null) {
+            this.watchService.close();
+            this.watchService = null;
+        }
+    }
+
+}
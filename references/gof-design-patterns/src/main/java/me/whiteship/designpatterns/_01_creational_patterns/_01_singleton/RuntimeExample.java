@@ -6,5 +6,9 @@ public class RuntimeExample {
         Runtime runtime = Runtime.getRuntime();
         System.out.println(runtime.maxMemory());
         System.out.println(runtime.freeMemory());
+
+        MemoryTelemetry telemetry = MemoryTelemetry.getInstance();
+        System.out.println(telemetry.getSnapshot());
+        System.out.println(telemetry.hasHeadroom(64 * 1024 * 1024));
     }
 }
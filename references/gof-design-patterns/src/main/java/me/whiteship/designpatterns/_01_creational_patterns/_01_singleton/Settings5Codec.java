@@ -0,0 +1,39 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import me.whiteship.designpatterns.support.Codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * enum 상수의 순서만 쓰고, 읽을 때는 이미 있는 상수를 돌려주므로 readResolve 처럼 싱글톤이 유지된다.
+ */
+public class Settings5Codec implements Codec<Settings5> {
+
+    private static final int VERSION = 1;
+
+    private static final Settings5[] VALUES = Settings5.values();
+
+    @Override
+    public void write(Settings5 value, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeByte(value.ordinal());
+    }
+
+    @Override
+    public Settings5 read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("지원하지 않는 Settings5 포맷 버전입니다: " + version);
+        }
+
+        int ordinal = in.readUnsignedByte();
+        if (ordinal >= VALUES.length) {
+            throw new StreamCorruptedException("없는 Settings5 상수입니다: " + ordinal);
+        }
+        return VALUES[ordinal];
+    }
+
+}
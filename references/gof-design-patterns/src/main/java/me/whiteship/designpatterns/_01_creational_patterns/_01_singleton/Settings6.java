@@ -0,0 +1,40 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * VarHandle acquire/release 로 지연 초기화 (volatile 읽기 없이 double checked locking)
+ */
+public class Settings6 {
+
+    private static final VarHandle INSTANCE;
+
+    static {
+        try {
+            INSTANCE = MethodHandles.lookup().findStaticVarHandle(Settings6.class, "instance", Settings6.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static Settings6 instance;
+
+    private Settings6() { }
+
+    public static Settings6 getInstance() {
+        Settings6 settings = (Settings6) INSTANCE.getAcquire();
+        if (settings == null) {
+            synchronized (Settings6.class) {
+                settings = instance;
+                if (settings == null) {
+                    settings = new Settings6();
+                    INSTANCE.setRelease(settings);
+                }
+            }
+        }
+
+        return settings;
+    }
+
+}
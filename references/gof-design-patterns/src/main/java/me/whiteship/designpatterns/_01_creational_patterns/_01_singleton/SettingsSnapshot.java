@@ -0,0 +1,138 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 시점의 설정 값. 만든 뒤에는 바뀌지 않는다.
+ * 숫자 값은 만들 때 한 번만 파싱해 두므로 getInt, getLong, getDouble 은 파싱하지 않는다.
+ */
+public final class SettingsSnapshot {
+
+    static final SettingsSnapshot EMPTY = new SettingsSnapshot(0, Map.of());
+
+    /**
+     * 숫자로 읽는 값의 종류. {@link ReloadableSettings} 가 한 번 숫자로 읽은 키를 기억해 두고,
+     * 다시 읽은 파일에서 그 키가 숫자가 아니면 새 스냅샷을 버린다.
+     */
+    enum Kind {
+        INT, LONG, DOUBLE
+    }
+
+    private final long version;
+
+    private final Map<String, Value> values;
+
+    SettingsSnapshot(long version, Map<String, String> values) {
+        this.version = version;
+        Map<String, Value> parsed = new HashMap<>();
+        values.forEach((key, text) -> parsed.put(key, new Value(text)));
+        this.values = Map.copyOf(parsed);
+    }
+
+    /**
+     * 설정을 다시 읽을 때마다 1씩 커진다. 값에서 계산한 결과는 version 이 바뀔 때까지 캐시해도 된다.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        Value value = values.get(key);
+        return value == null ? defaultValue : value.text;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Value value = values.get(key);
+        return value == null ? defaultValue : (int) value.require(key, Kind.INT).longValue;
+    }
+
+    public long getLong(String key, long defaultValue) {
+        Value value = values.get(key);
+        return value == null ? defaultValue : value.require(key, Kind.LONG).longValue;
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        Value value = values.get(key);
+        return value == null ? defaultValue : value.require(key, Kind.DOUBLE).doubleValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Value value = values.get(key);
+        return value == null ? defaultValue : Boolean.parseBoolean(value.text);
+    }
+
+    /**
+     * key 가 있는데 kind 로 읽을 수 없으면 NumberFormatException 을 던진다. 없는 key 는 기본값을 쓰므로 괜찮다.
+     */
+    void check(String key, Kind kind) {
+        Value value = values.get(key);
+        if (value != null) {
+            value.require(key, kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        Map<String, String> texts = new HashMap<>();
+        values.forEach((key, value) -> texts.put(key, value.text));
+        return "SettingsSnapshot{" +
+                "version=" + version +
+                ", values=" + texts +
+                '}';
+    }
+
+    private static final class Value {
+
+        private final String text;
+
+        private final boolean isInt;
+
+        private final boolean isLong;
+
+        private final long longValue;
+
+        private final boolean isDouble;
+
+        private final double doubleValue;
+
+        private Value(String text) {
+            this.text = text;
+
+            long longValue = 0;
+            boolean isLong = false;
+            try {
+                longValue = Long.parseLong(text);
+                isLong = true;
+            } catch (NumberFormatException e) {
+                // 정수가 아니다
+            }
+            this.longValue = longValue;
+            this.isLong = isLong;
+            this.isInt = isLong && longValue == (int) longValue;
+
+            double doubleValue = 0;
+            boolean isDouble = false;
+            try {
+                doubleValue = Double.parseDouble(text);
+                isDouble = true;
+            } catch (NumberFormatException e) {
+                // 실수가 아니다
+            }
+            this.doubleValue = doubleValue;
+            this.isDouble = isDouble;
+        }
+
+        private Value require(String key, Kind kind) {
+            boolean valid = kind == Kind.INT ? isInt : kind == Kind.LONG ? isLong : isDouble;
+            if (!valid) {
+                throw new NumberFormatException(key + " 의 값 \"" + text + "\" 은(는) " + kind + " 가 아닙니다.");
+            }
+            return this;
+        }
+    }
+}
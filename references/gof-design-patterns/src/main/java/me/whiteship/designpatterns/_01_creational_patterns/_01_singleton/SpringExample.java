@@ -1,12 +1,15 @@
 package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
 
+import me.whiteship.designpatterns.support.BeanStartupReport;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 
 public class SpringExample {
 
     public static void main(String[] args) {
-        ApplicationContext applicationContext = new AnnotationConfigApplicationContext(SpringConfig.class);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(SpringConfig.class);
+        ApplicationContext applicationContext = new BeanStartupReport().refresh(context);
         String hello = applicationContext.getBean("hello", String.class);
         String hello2 = applicationContext.getBean("hello", String.class);
         System.out.println(hello == hello2);
@@ -0,0 +1,80 @@
+package me.whiteship.designpatterns._01_creational_patterns._01_singleton;
+
+/**
+ * {@link MemoryTelemetry} 의 샘플 하나. 할당 속도는 바로 앞 샘플과의 차이로 계산한 추정치다.
+ */
+public final class TelemetrySnapshot {
+
+    private final long sampleCount;
+
+    private final long heapUsed;
+
+    private final long heapMax;
+
+    private final long allocationRate;
+
+    private final long gcCount;
+
+    private final long gcTimeMillis;
+
+    private final int threadCount;
+
+    TelemetrySnapshot(long sampleCount, long heapUsed, long heapMax, long allocationRate,
+                      long gcCount, long gcTimeMillis, int threadCount) {
+        this.sampleCount = sampleCount;
+        this.heapUsed = heapUsed;
+        this.heapMax = heapMax;
+        this.allocationRate = allocationRate;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+        this.threadCount = threadCount;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public long getHeapUsed() {
+        return heapUsed;
+    }
+
+    public long getHeapMax() {
+        return heapMax;
+    }
+
+    public long getHeapHeadroom() {
+        return heapMax - heapUsed;
+    }
+
+    /**
+     * 초당 할당 바이트
+     */
+    public long getAllocationRate() {
+        return allocationRate;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TelemetrySnapshot{" +
+                "sampleCount=" + sampleCount +
+                ", heapUsed=" + heapUsed +
+                ", heapMax=" + heapMax +
+                ", allocationRate=" + allocationRate +
+                ", gcCount=" + gcCount +
+                ", gcTimeMillis=" + gcTimeMillis +
+                ", threadCount=" + threadCount +
+                '}';
+    }
+}
@@ -1,7 +1,13 @@
 package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._01_before;
 
+import me.whiteship.designpatterns.support.ProductRegistry;
+
 public class ShipFactory {
 
+    private static final ProductRegistry<Ship> SHIPS = new ProductRegistry<Ship>()
+            .register("whiteship", () -> customized("\uD83D\uDEE5️", "whiteship"))
+            .register("blackship", () -> customized("⚓", "black"));
+
     public static Ship orderShip(String name, String email) {
         // validate
         if (name == null || name.isBlank()) {
@@ -13,29 +19,23 @@ public class ShipFactory {
 
         prepareFor(name);
 
-        Ship ship = new Ship();
+        // Customizing and coloring for specific name
+        Ship ship = SHIPS.create(name, Ship::new);
         ship.setName(name);
 
-        // Customizing for specific name
-        if (name.equalsIgnoreCase("whiteship")) {
-            ship.setLogo("\uD83D\uDEE5️");
-        } else if (name.equalsIgnoreCase("blackship")) {
-            ship.setLogo("⚓");
-        }
-
-        // coloring
-        if (name.equalsIgnoreCase("whiteship")) {
-            ship.setColor("whiteship");
-        } else if (name.equalsIgnoreCase("blackship")) {
-            ship.setColor("black");
-        }
-
         // notify
         sendEmailTo(email, ship);
 
         return ship;
     }
 
+    private static Ship customized(String logo, String color) {
+        Ship ship = new Ship();
+        ship.setLogo(logo);
+        ship.setColor(color);
+        return ship;
+    }
+
     private static void prepareFor(String name) {
         System.out.println(name + " 만들 준비 중");
     }
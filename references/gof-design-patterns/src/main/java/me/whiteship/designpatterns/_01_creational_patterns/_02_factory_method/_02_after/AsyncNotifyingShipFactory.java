@@ -0,0 +1,55 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배는 감싼 팩토리로 만들고, 알림은 {@link NotificationOutbox} 에 넣어 두고 바로 돌아온다.
+ * 모아 보낸 알림은 이메일 주소별로 묶어 감싼 팩토리의 sendEmailTo 로 보낸다.
+ */
+public class AsyncNotifyingShipFactory implements ShipFactory, Closeable {
+
+    private final ShipFactory shipFactory;
+
+    private final NotificationOutbox outbox;
+
+    public AsyncNotifyingShipFactory(ShipFactory shipFactory, int capacity, int batchSize, Duration linger,
+                                     NotificationOutbox.BackpressurePolicy policy) {
+        this.shipFactory = shipFactory;
+        this.outbox = new NotificationOutbox(capacity, batchSize, linger, policy, this::sendBatch);
+    }
+
+    @Override
+    public Ship createShip() {
+        return shipFactory.createShip();
+    }
+
+    @Override
+    public void sendEmailTo(String email, Ship ship) {
+        outbox.submit(email, ship);
+    }
+
+    private void sendBatch(List<NotificationOutbox.Notification> batch) {
+        Map<String, List<Ship>> shipsByEmail = new LinkedHashMap<>();
+        for (NotificationOutbox.Notification notification : batch) {
+            shipsByEmail.computeIfAbsent(notification.getEmail(), email -> new ArrayList<>()).add(notification.getShip());
+        }
+        shipsByEmail.forEach(shipFactory::sendEmailTo);
+    }
+
+    public NotificationOutbox getOutbox() {
+        return outbox;
+    }
+
+    /**
+     * 남은 알림을 모두 보낸 뒤 닫는다. 보내지 못한 알림이 있었으면 IllegalStateException 을 던진다.
+     */
+    @Override
+    public void close() {
+        outbox.close();
+    }
+}
@@ -1,15 +1,47 @@
 package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
 public class Client {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws InterruptedException {
+        OrderShipMetrics.getInstance().setEnabled(true);
         Client client = new Client();
         client.print(new WhiteshipFactory(), "whiteship", "keesun@mail.com");
         client.print(new BlackshipFactory(), "blackship", "keesun@mail.com");
+        client.printAll(new WhiteshipFactory(), List.of(
+                new ShipOrder("whiteship", "keesun@mail.com"),
+                new ShipOrder("whiteship2", "keesun@mail.com"),
+                new ShipOrder("whiteship3", "whiteship@mail.com")));
+
+        try (AsyncNotifyingShipFactory asyncFactory = new AsyncNotifyingShipFactory(new BlackshipFactory(),
+                1024, 64, Duration.ofMillis(10), NotificationOutbox.BackpressurePolicy.CALLER_RUNS)) {
+            client.print(asyncFactory, "blackship", "keesun@mail.com");
+            client.print(asyncFactory, "blackship2", "keesun@mail.com");
+        }
+
+        try (ShipProductionLine productionLine = new ShipProductionLine(new WhiteshipFactory(),
+                ship -> ship.setColor("ivory"), 16, 2, 1, 2)) {
+            List<CompletableFuture<Ship>> ships = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                ships.add(productionLine.submit(new ShipOrder("whiteship" + i, "keesun@mail.com")));
+            }
+            ships.forEach(ship -> System.out.println(ship.join()));
+            System.out.print(productionLine.report());
+        }
+
+        System.out.println(OrderShipMetrics.getInstance());
     }
 
     private void print(ShipFactory shipFactory, String name, String email) {
         System.out.println(shipFactory.orderShip(name, email));
     }
 
+    private void printAll(ShipFactory shipFactory, List<ShipOrder> orders) {
+        shipFactory.orderShips(orders).forEach(System.out::println);
+    }
+
 }
@@ -1,5 +1,7 @@
 package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
 
+import java.util.List;
+
 public abstract class DefaultShipFactory implements ShipFactory {
 
     @Override
@@ -7,4 +9,13 @@ public abstract class DefaultShipFactory implements ShipFactory {
         System.out.println(ship.getName() + " 다 만들었습니다.");
     }
 
+    @Override
+    public void sendEmailTo(String email, List<Ship> ships) {
+        if (ships.size() == 1) {
+            sendEmailTo(email, ships.get(0));
+            return;
+        }
+        System.out.println(ships.get(0).getName() + " 외 " + (ships.size() - 1) + "척 다 만들었습니다.");
+    }
+
 }
@@ -0,0 +1,294 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 배 완성 알림을 크기가 정해진 큐에 넣어 두고 전용 스레드 하나가 모아서 보낸다.
+ * 여러 스레드가 넣고 한 스레드만 꺼내며, batchSize 만큼 모이거나 첫 알림 뒤 linger 가 지나면 sink 로 넘긴다.
+ * 큐가 가득 찼을 때는 {@link BackpressurePolicy} 를 따른다. CALLER_RUNS 면 sink 가 호출한 스레드에서도 불리므로
+ * sink 는 스레드 안전해야 한다.
+ * sink 가 던진 예외(Error 포함)는 그 묶음만 failed 로 세고 계속 보낸다. 첫 예외는 {@link #close()} 에서 던진다.
+ */
+public class NotificationOutbox implements Closeable {
+
+    public enum BackpressurePolicy {
+        /** 자리가 날 때까지 기다린다. */
+        BLOCK,
+        /** 버리고 dropped 를 센다. */
+        DROP,
+        /** 호출한 스레드에서 바로 보낸다. */
+        CALLER_RUNS
+    }
+
+    public static class Notification {
+
+        private final String email;
+
+        private final Ship ship;
+
+        public Notification(String email, Ship ship) {
+            this.email = email;
+            this.ship = ship;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public Ship getShip() {
+            return ship;
+        }
+    }
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final BlockingQueue<Notification> queue;
+
+    private final int batchSize;
+
+    private final long lingerNanos;
+
+    private final BackpressurePolicy policy;
+
+    private final Consumer<List<Notification>> sink;
+
+    private final Thread worker;
+
+    private final AtomicLong submitted = new AtomicLong();
+
+    private final AtomicLong delivered = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong callerRuns = new AtomicLong();
+
+    private final AtomicLong failed = new AtomicLong();
+
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    /**
+     * submit 은 잠금 없이 closed 만 보고 넣은 뒤 {@link #accepted(Notification)} 에서 한 번 더 본다.
+     */
+    private volatile boolean closed;
+
+    /**
+     * CALLER_RUNS 로 호출한 스레드에서 보내는 중인 수. close 는 이것이 0 이 될 때까지 기다린다.
+     */
+    private final AtomicInteger callerRunning = new AtomicInteger();
+
+    public NotificationOutbox(int capacity, int batchSize, Duration linger, BackpressurePolicy policy,
+                              Consumer<List<Notification>> sink) {
+        if (batchSize < 1 || capacity < batchSize) {
+            throw new IllegalArgumentException("batchSize 는 1 이상, capacity 는 batchSize 이상이어야 합니다.");
+        }
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.policy = policy;
+        this.sink = sink;
+        this.worker = new Thread(this::drainLoop, "notification-outbox");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 알림을 큐에 넣는다. DROP 정책으로 버려졌으면 false.
+     * BLOCK 정책에서 기다리는 동안 전용 스레드가 끝나 버리면 IllegalStateException 을 던진다.
+     */
+    public boolean submit(String email, Ship ship) {
+        if (closed) {
+            throw closedError();
+        }
+
+        Notification notification = new Notification(email, ship);
+        submitted.incrementAndGet();
+        if (queue.offer(notification)) {
+            return accepted(notification);
+        }
+
+        switch (policy) {
+            case BLOCK:
+                return put(notification) && accepted(notification);
+            case CALLER_RUNS:
+                return runInCaller(notification);
+            default:
+                dropped.incrementAndGet();
+                return false;
+        }
+    }
+
+    /**
+     * 큐에 넣은 뒤 그 사이 닫혔는지 다시 본다. 닫혔는데 알림이 아직 큐에 있으면 전용 스레드가 이미 끝났을 수 있으므로
+     * 도로 꺼내 닫힌 큐로 거절한다. 이미 꺼내 갔으면 전용 스레드나 close 가 보낸다.
+     * 닫지 않았으면 넣은 뒤 읽은 closed 가 false 이므로, 전용 스레드가 닫힌 것을 보고 큐를 볼 때 이 알림도 보인다.
+     */
+    private boolean accepted(Notification notification) {
+        if (closed && queue.remove(notification)) {
+            submitted.decrementAndGet();
+            throw closedError();
+        }
+        return true;
+    }
+
+    private boolean runInCaller(Notification notification) {
+        callerRunning.incrementAndGet();
+        try {
+            if (closed) {
+                submitted.decrementAndGet();
+                throw closedError();
+            }
+            callerRuns.incrementAndGet();
+            deliver(List.of(notification));
+            return true;
+        } finally {
+            callerRunning.decrementAndGet();
+        }
+    }
+
+    private static IllegalStateException closedError() {
+        return new IllegalStateException("닫힌 알림 큐입니다.");
+    }
+
+    private boolean put(Notification notification) {
+        try {
+            while (!queue.offer(notification, IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (!worker.isAlive()) {
+                    dropped.incrementAndGet();
+                    throw new IllegalStateException("알림을 보내는 스레드가 끝나서 더 넣을 수 없습니다.");
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            dropped.incrementAndGet();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Notification first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                long deadline = System.nanoTime() + lingerNanos;
+                while (batch.size() < batchSize) {
+                    if (queue.drainTo(batch, batchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || closed) {
+                        break;
+                    }
+                    Notification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                deliver(batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            // 종료. 남은 알림은 close 에서 보낸다.
+        }
+    }
+
+    private void deliver(List<Notification> batch) {
+        try {
+            sink.accept(batch);
+            delivered.addAndGet(batch.size());
+        } catch (Throwable e) {
+            failed.addAndGet(batch.size());
+            firstFailure.compareAndSet(null, e);
+        }
+    }
+
+    /**
+     * 더 받지 않고, 큐에 남은 알림을 모두 보낸 뒤 돌아온다.
+     * 보내지 못한 알림이 있었으면 첫 예외를 원인으로 IllegalStateException 을 던진다.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            worker.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            worker.interrupt();
+        }
+
+        while (callerRunning.get() > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        // 전용 스레드가 중간에 끝났으면 남은 알림
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            deliver(batch);
+            batch.clear();
+        }
+
+        Throwable failure = firstFailure.get();
+        if (failure != null) {
+            throw new IllegalStateException("알림 " + failed.get() + " 개를 보내지 못했습니다.", failure);
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getSubmitted() {
+        return submitted.get();
+    }
+
+    public long getDelivered() {
+        return delivered.get();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getCallerRuns() {
+        return callerRuns.get();
+    }
+
+    public long getFailed() {
+        return failed.get();
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationOutbox{" +
+                "policy=" + policy +
+                ", queueDepth=" + getQueueDepth() +
+                ", submitted=" + getSubmitted() +
+                ", delivered=" + getDelivered() +
+                ", dropped=" + getDropped() +
+                ", callerRuns=" + getCallerRuns() +
+                ", failed=" + getFailed() +
+                '}';
+    }
+}
@@ -0,0 +1,116 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+/**
+ * orderShip 의 검증, 준비, 생성, 알림 단계별 지연 시간 히스토그램을 모아 두는 싱글톤.
+ * 기본으로는 꺼져 있어서 orderShip 은 플래그 하나만 읽고 원래대로 돈다. -Dship.metrics.enabled=true 로 시작하면 켜고
+ * JMX 에도 등록해서 JMX 로 끄고 켤 수 있다. 코드에서는 {@link #setEnabled(boolean)} 로 켠다.
+ */
+public class OrderShipMetrics implements OrderShipMetricsMXBean {
+
+    private static final String OBJECT_NAME = "me.whiteship.designpatterns:type=OrderShipMetrics";
+
+    private final LatencyHistogram validate = new LatencyHistogram();
+
+    private final LatencyHistogram prepare = new LatencyHistogram();
+
+    private final LatencyHistogram create = new LatencyHistogram();
+
+    private final LatencyHistogram notify = new LatencyHistogram();
+
+    private volatile boolean enabled;
+
+    private OrderShipMetrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    private static class OrderShipMetricsHolder {
+        private static final OrderShipMetrics INSTANCE = create();
+
+        private static OrderShipMetrics create() {
+            boolean enabled = Boolean.getBoolean("ship.metrics.enabled");
+            OrderShipMetrics metrics = new OrderShipMetrics(enabled);
+            if (!enabled) {
+                return metrics;
+            }
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName(OBJECT_NAME));
+            } catch (JMException e) {
+                throw new IllegalStateException(OBJECT_NAME + " MBean 을 등록할 수 없습니다.", e);
+            }
+            return metrics;
+        }
+    }
+
+    public static OrderShipMetrics getInstance() {
+        return OrderShipMetricsHolder.INSTANCE;
+    }
+
+    LatencyHistogram validateHistogram() {
+        return validate;
+    }
+
+    LatencyHistogram prepareHistogram() {
+        return prepare;
+    }
+
+    LatencyHistogram createHistogram() {
+        return create;
+    }
+
+    LatencyHistogram notifyHistogram() {
+        return notify;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public LatencySnapshot getValidate() {
+        return validate.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getPrepare() {
+        return prepare.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getCreate() {
+        return create.snapshot();
+    }
+
+    @Override
+    public LatencySnapshot getNotify() {
+        return notify.snapshot();
+    }
+
+    @Override
+    public void reset() {
+        validate.reset();
+        prepare.reset();
+        create.reset();
+        notify.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "OrderShipMetrics{" +
+                "enabled=" + enabled +
+                ", validate=" + getValidate() +
+                ", prepare=" + getPrepare() +
+                ", create=" + getCreate() +
+                ", notify=" + getNotify() +
+                '}';
+    }
+}
@@ -0,0 +1,22 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+/**
+ * JMX 로 보이는 {@link OrderShipMetrics} 의 단계별 지연 시간
+ */
+public interface OrderShipMetricsMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    LatencySnapshot getValidate();
+
+    LatencySnapshot getPrepare();
+
+    LatencySnapshot getCreate();
+
+    LatencySnapshot getNotify();
+
+    void reset();
+
+}
@@ -4,8 +4,9 @@ import me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory.
 import me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._01_before.WhiteWheel;
 import me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after.Anchor;
 import me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after.Wheel;
+import me.whiteship.designpatterns.support.Renderable;
 
-public class Ship {
+public class Ship implements Renderable {
 
     private String name;
 
@@ -50,6 +51,14 @@ public class Ship {
                 '}';
     }
 
+    @Override
+    public void appendTo(StringBuilder out) {
+        out.append("Ship{name=");
+        Renderable.appendQuoted(out, name).append(", color=");
+        Renderable.appendQuoted(out, color).append(", logo=");
+        Renderable.appendQuoted(out, logo).append('}');
+    }
+
     public Wheel getWheel() {
         return wheel;
     }
@@ -1,30 +1,81 @@
 package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 public interface ShipFactory {
 
     default Ship orderShip(String name, String email) {
+        OrderShipMetrics metrics = OrderShipMetrics.getInstance();
+        boolean timed = metrics.isEnabled();
+        long start = timed ? System.nanoTime() : 0;
+
         validate(name, email);
+        if (timed) {
+            start = metrics.validateHistogram().recordSince(start);
+        }
         prepareFor(name);
+        if (timed) {
+            start = metrics.prepareHistogram().recordSince(start);
+        }
         Ship ship = createShip();
+        if (timed) {
+            start = metrics.createHistogram().recordSince(start);
+        }
         sendEmailTo(email, ship);
+        if (timed) {
+            metrics.notifyHistogram().recordSince(start);
+        }
         return ship;
     }
 
+    /**
+     * 주문을 한꺼번에 처리한다. 모든 주문을 먼저 검증하고, 배는 ForkJoinPool 에서 나눠 만들고,
+     * 알림은 이메일 주소별로 묶어서 한 번씩 보낸다. 돌려주는 배는 주문 순서와 같다.
+     */
+    default List<Ship> orderShips(Collection<ShipOrder> orders) {
+        ShipOrder[] ordered = orders.toArray(new ShipOrder[0]);
+        for (ShipOrder order : ordered) {
+            validate(order.getName(), order.getEmail());
+        }
+        prepareFor(ordered.length);
+
+        Ship[] ships = new Ship[ordered.length];
+        Arrays.parallelSetAll(ships, i -> createShip());
+
+        Map<String, List<Ship>> shipsByEmail = new LinkedHashMap<>();
+        for (int i = 0; i < ordered.length; i++) {
+            shipsByEmail.computeIfAbsent(ordered[i].getEmail(), email -> new ArrayList<>()).add(ships[i]);
+        }
+        shipsByEmail.forEach(this::sendEmailTo);
+
+        return Arrays.asList(ships);
+    }
+
     void sendEmailTo(String email, Ship ship);
 
+    default void sendEmailTo(String email, List<Ship> ships) {
+        for (Ship ship : ships) {
+            sendEmailTo(email, ship);
+        }
+    }
+
     Ship createShip();
 
     private void validate(String name, String email) {
-        if (name == null || name.isBlank()) {
-            throw new IllegalArgumentException("배 이름을 지어주세요.");
-        }
-        if (email == null || email.isBlank()) {
-            throw new IllegalArgumentException("연락처를 남겨주세요.");
-        }
+        ShipOrder.validate(name, email);
     }
 
     private void prepareFor(String name) {
         System.out.println(name + " 만들 준비 중");
     }
 
+    private void prepareFor(int count) {
+        System.out.println(count + "척 만들 준비 중");
+    }
+
 }
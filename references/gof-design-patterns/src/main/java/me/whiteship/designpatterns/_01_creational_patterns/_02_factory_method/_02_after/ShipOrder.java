@@ -0,0 +1,42 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+public class ShipOrder {
+
+    private final String name;
+
+    private final String email;
+
+    public ShipOrder(String name, String email) {
+        this.name = name;
+        this.email = email;
+    }
+
+    public void validate() {
+        validate(name, email);
+    }
+
+    static void validate(String name, String email) {
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("배 이름을 지어주세요.");
+        }
+        if (email == null || email.isBlank()) {
+            throw new IllegalArgumentException("연락처를 남겨주세요.");
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "ShipOrder{" +
+                "name='" + name + '\'' +
+                ", email='" + email + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * orderShip 의 단계(검증, 준비, 생성, 도색, 알림)를 {@link StagedPipeline} 단계로 나눠 돌리는 생산 라인.
+ * 생성과 알림처럼 느린 단계만 스레드를 늘릴 수 있다.
+ */
+public class ShipProductionLine implements Closeable {
+
+    private final StagedPipeline<Job> pipeline;
+
+    /**
+     * @param painter     만든 배를 칠하는 단계. 할 일이 없으면 ship -> {}
+     * @param capacity    단계 사이 큐 크기
+     */
+    public ShipProductionLine(ShipFactory shipFactory, Consumer<Ship> painter, int capacity,
+                              int createWorkers, int paintWorkers, int notifyWorkers) {
+        this.pipeline = StagedPipeline.<Job>builder()
+                .onFailure((item, e) -> ((Job) item).future.completeExceptionally(e))
+                .stage("validate", 1, capacity, job -> {
+                    job.order.validate();
+                    return job;
+                })
+                .stage("prepare", 1, capacity, job -> {
+                    System.out.println(job.order.getName() + " 만들 준비 중");
+                    return job;
+                })
+                .stage("create", createWorkers, capacity, job -> {
+                    job.ship = shipFactory.createShip();
+                    return job;
+                })
+                .stage("paint", paintWorkers, capacity, job -> {
+                    painter.accept(job.ship);
+                    return job;
+                })
+                .build("notify", notifyWorkers, capacity, job -> {
+                    shipFactory.sendEmailTo(job.order.getEmail(), job.ship);
+                    job.future.complete(job.ship);
+                });
+    }
+
+    /**
+     * 주문을 넣고, 알림까지 끝나면 완료되는 future 를 돌려준다. 라인이 밀려 있으면 넣을 자리가 날 때까지 기다린다.
+     */
+    public CompletableFuture<Ship> submit(ShipOrder order) throws InterruptedException {
+        Job job = new Job(order);
+        pipeline.submit(job);
+        return job.future;
+    }
+
+    public List<StagedPipeline.StageStats> getStats() {
+        return pipeline.getStats();
+    }
+
+    public String report() {
+        return pipeline.report();
+    }
+
+    /**
+     * 이미 들어온 주문을 모두 끝낸 뒤 닫는다.
+     */
+    @Override
+    public void close() {
+        pipeline.close();
+    }
+
+    private static class Job {
+
+        private final ShipOrder order;
+
+        private final CompletableFuture<Ship> future = new CompletableFuture<>();
+
+        private Ship ship;
+
+        private Job(ShipOrder order) {
+            this.order = order;
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 작업을 여러 단계로 나눠 단계마다 정해진 수의 스레드로 돌리는 파이프라인.
+ * 단계 사이에는 크기가 정해진 큐가 있어서 뒤 단계가 밀리면 앞 단계가 기다리고, 결국 submit 이 기다린다.
+ * 전체 처리량은 가장 느린 단계가 정하므로 {@link #getStats()} 로 단계별 처리량과 큐 깊이를 보고 스레드 수를 정한다.
+ * 단계에서 난 예외는 Error 까지 잡아서 {@link Builder#onFailure} 로 넘긴다. 넘길 곳을 정하지 않았으면 모아 두었다가
+ * {@link #close()} 에서 던진다.
+ */
+public class StagedPipeline<I> implements Closeable {
+
+    private static final Object END = new Object();
+
+    private final List<Stage> stages;
+
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * submit 은 읽기 잠금을 잡은 채로 큐에 넣고, close 는 쓰기 잠금을 잡고 닫는다.
+     * 그래서 종료 표시 뒤에 작업이 들어가는 일이 없다.
+     */
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+    private final AtomicReference<Throwable> unhandledFailure = new AtomicReference<>();
+
+    private volatile boolean closed;
+
+    private StagedPipeline(List<StageSpec> specs, BiConsumer<Object, Throwable> onFailure) {
+        BiConsumer<Object, Throwable> handler = onFailure != null ? onFailure
+                : (item, e) -> unhandledFailure.compareAndSet(null, e);
+        this.stages = new ArrayList<>(specs.size());
+        for (StageSpec spec : specs) {
+            stages.add(new Stage(spec, handler, unhandledFailure));
+        }
+        for (int i = 0; i < stages.size() - 1; i++) {
+            stages.get(i).next = stages.get(i + 1);
+        }
+        stages.forEach(Stage::start);
+    }
+
+    public static <T> Builder<T, T> builder() {
+        return new Builder<>(new ArrayList<>(), null);
+    }
+
+    /**
+     * 첫 단계 큐에 넣는다. 큐가 가득 차 있으면 자리가 날 때까지 기다린다.
+     */
+    public void submit(I item) throws InterruptedException {
+        closeLock.readLock().lockInterruptibly();
+        try {
+            if (closed) {
+                throw new IllegalStateException("닫힌 파이프라인입니다.");
+            }
+            stages.get(0).queue.put(item);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 더 받지 않고, 이미 들어온 작업이 마지막 단계까지 끝나면 돌아온다.
+     * onFailure 를 정하지 않았는데 실패한 작업이 있으면 첫 예외를 원인으로 IllegalStateException 을 던진다.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+
+        try {
+            Stage first = stages.get(0);
+            for (int i = 0; i < first.workers.length; i++) {
+                first.queue.put(END);
+            }
+            for (Stage stage : stages) {
+                for (Thread worker : stage.workers) {
+                    worker.join();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        Throwable failure = unhandledFailure.get();
+        if (failure != null) {
+            long failed = 0;
+            for (Stage stage : stages) {
+                failed += stage.failed.sum();
+            }
+            throw new IllegalStateException("작업 " + failed + " 개가 실패했습니다.", failure);
+        }
+    }
+
+    public List<StageStats> getStats() {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        List<StageStats> stats = new ArrayList<>(stages.size());
+        for (Stage stage : stages) {
+            stats.add(new StageStats(stage, elapsedNanos));
+        }
+        return stats;
+    }
+
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-10s %7s %11s %12s %12s %8s %10s %10s%n",
+                "stage", "workers", "queue", "processed", "items/s", "failed", "busy ms", "blocked ms"));
+        for (StageStats stats : getStats()) {
+            report.append(String.format("%-10s %7d %5d/%-5d %12d %12.0f %8d %10d %10d%n",
+                    stats.getName(), stats.getWorkers(), stats.getQueueDepth(), stats.getCapacity(),
+                    stats.getProcessed(), stats.getThroughput(), stats.getFailed(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getBusyNanos()),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getBlockedNanos())));
+        }
+        return report.toString();
+    }
+
+    /**
+     * I 를 받아 지금까지 O 를 내는 단계들을 쌓는다.
+     */
+    public static class Builder<I, O> {
+
+        private final List<StageSpec> specs;
+
+        private final BiConsumer<Object, Throwable> onFailure;
+
+        private Builder(List<StageSpec> specs, BiConsumer<Object, Throwable> onFailure) {
+            this.specs = specs;
+            this.onFailure = onFailure;
+        }
+
+        /**
+         * function 이 null 을 돌려주면 그 작업은 다음 단계로 넘기지 않는다.
+         */
+        @SuppressWarnings("unchecked")
+        public <R> Builder<I, R> stage(String name, int workers, int capacity, Function<? super O, ? extends R> function) {
+            specs.add(new StageSpec(name, workers, capacity, (Function<Object, Object>) function));
+            return new Builder<>(specs, onFailure);
+        }
+
+        /**
+         * 단계에서 예외(Error 포함)가 나면 그 작업과 예외를 넘겨 받는다. 작업은 버려지고 파이프라인은 계속 돈다.
+         * handler 가 던진 예외는 close 에서 던진다.
+         */
+        public Builder<I, O> onFailure(BiConsumer<Object, Throwable> onFailure) {
+            return new Builder<>(specs, onFailure);
+        }
+
+        public StagedPipeline<I> build(String name, int workers, int capacity, Consumer<? super O> sink) {
+            List<StageSpec> all = new ArrayList<>(specs);
+            all.add(new StageSpec(name, workers, capacity, item -> {
+                @SuppressWarnings("unchecked")
+                O output = (O) item;
+                sink.accept(output);
+                return null;
+            }));
+            return new StagedPipeline<>(all, onFailure);
+        }
+    }
+
+    public static class StageStats {
+
+        private final String name;
+
+        private final int workers;
+
+        private final int capacity;
+
+        private final int queueDepth;
+
+        private final long processed;
+
+        private final long failed;
+
+        private final long busyNanos;
+
+        private final long blockedNanos;
+
+        private final double throughput;
+
+        private StageStats(Stage stage, long elapsedNanos) {
+            this.name = stage.name;
+            this.workers = stage.workers.length;
+            this.capacity = stage.capacity;
+            this.queueDepth = stage.queue.size();
+            this.processed = stage.processed.sum();
+            this.failed = stage.failed.sum();
+            this.busyNanos = stage.busyNanos.sum();
+            this.blockedNanos = stage.blockedNanos.sum();
+            this.throughput = elapsedNanos == 0 ? 0 : processed * (TimeUnit.SECONDS.toNanos(1) / (double) elapsedNanos);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getWorkers() {
+            return workers;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public int getQueueDepth() {
+            return queueDepth;
+        }
+
+        public long getProcessed() {
+            return processed;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        /**
+         * 단계 함수를 실행한 시간의 합.
+         */
+        public long getBusyNanos() {
+            return busyNanos;
+        }
+
+        /**
+         * 다음 단계 큐가 가득 차서 기다린 시간의 합. 이 값이 크면 뒤 단계가 병목이다.
+         */
+        public long getBlockedNanos() {
+            return blockedNanos;
+        }
+
+        /**
+         * 파이프라인을 만든 뒤로 초당 처리한 작업 수.
+         */
+        public double getThroughput() {
+            return throughput;
+        }
+    }
+
+    private static class StageSpec {
+
+        private final String name;
+
+        private final int workers;
+
+        private final int capacity;
+
+        private final Function<Object, Object> function;
+
+        private StageSpec(String name, int workers, int capacity, Function<Object, Object> function) {
+            if (workers < 1 || capacity < 1) {
+                throw new IllegalArgumentException(name + " 단계의 workers 와 capacity 는 1 이상이어야 합니다.");
+            }
+            this.name = name;
+            this.workers = workers;
+            this.capacity = capacity;
+            this.function = function;
+        }
+    }
+
+    private static class Stage {
+
+        private final String name;
+
+        private final int capacity;
+
+        private final BlockingQueue<Object> queue;
+
+        private final Function<Object, Object> function;
+
+        private final BiConsumer<Object, Throwable> onFailure;
+
+        private final Thread[] workers;
+
+        private final AtomicInteger running;
+
+        private final LongAdder processed = new LongAdder();
+
+        private final LongAdder failed = new LongAdder();
+
+        private final LongAdder busyNanos = new LongAdder();
+
+        private final LongAdder blockedNanos = new LongAdder();
+
+        private final AtomicReference<Throwable> unhandledFailure;
+
+        private Stage next;
+
+        private Stage(StageSpec spec, BiConsumer<Object, Throwable> onFailure, AtomicReference<Throwable> unhandledFailure) {
+            this.name = spec.name;
+            this.capacity = spec.capacity;
+            this.queue = new ArrayBlockingQueue<>(spec.capacity);
+            this.function = spec.function;
+            this.onFailure = onFailure;
+            this.unhandledFailure = unhandledFailure;
+            this.workers = new Thread[spec.workers];
+            this.running = new AtomicInteger(spec.workers);
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = new Thread(this::work, "pipeline-" + name + "-" + i);
+                workers[i].setDaemon(true);
+            }
+        }
+
+        private void start() {
+            for (Thread worker : workers) {
+                worker.start();
+            }
+        }
+
+        private void work() {
+            try {
+                while (true) {
+                    Object item = queue.take();
+                    if (item == END) {
+                        return;
+                    }
+
+                    long start = System.nanoTime();
+                    Object output;
+                    try {
+                        output = function.apply(item);
+                        processed.increment();
+                    } catch (Throwable e) {
+                        failed.increment();
+                        fail(item, e);
+                        continue;
+                    } finally {
+                        busyNanos.add(System.nanoTime() - start);
+                    }
+
+                    if (next != null && output != null) {
+                        long blockedFrom = System.nanoTime();
+                        next.queue.put(output);
+                        blockedNanos.add(System.nanoTime() - blockedFrom);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // 이 단계의 마지막 스레드가 끝나면 다음 단계 스레드 수만큼 종료 표시를 넘긴다.
+                if (running.decrementAndGet() == 0 && next != null) {
+                    for (int i = 0; i < next.workers.length; i++) {
+                        try {
+                            next.queue.put(END);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                    }
+                }
+            }
+        }
+
+        private void fail(Object item, Throwable e) {
+            try {
+                onFailure.accept(item, e);
+            } catch (Throwable handlerFailure) {
+                handlerFailure.addSuppressed(e);
+                unhandledFailure.compareAndSet(null, handlerFailure);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,15 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Blackship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Whiteship;
+import me.whiteship.designpatterns.support.ProductRegistry;
+
+public class DefaultShipTypes implements ShipTypeProvider {
+
+    @Override
+    public void registerTo(ProductRegistry<Ship> registry) {
+        registry.register("whiteship", Whiteship.class)
+                .register("blackship", Blackship.class);
+    }
+}
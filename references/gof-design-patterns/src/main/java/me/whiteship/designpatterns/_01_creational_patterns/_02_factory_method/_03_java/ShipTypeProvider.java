@@ -0,0 +1,22 @@
+package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns.support.ProductRegistry;
+
+import java.util.ServiceLoader;
+
+/**
+ * 배 종류를 등록하는 SPI. 구현체는 META-INF/services 에 적어 두면 시작할 때 한 번 읽어서 등록한다.
+ */
+public interface ShipTypeProvider {
+
+    void registerTo(ProductRegistry<Ship> registry);
+
+    static ProductRegistry<Ship> loadRegistry() {
+        ProductRegistry<Ship> registry = new ProductRegistry<>();
+        for (ShipTypeProvider provider : ServiceLoader.load(ShipTypeProvider.class)) {
+            provider.registerTo(registry);
+        }
+        return registry;
+    }
+}
@@ -1,17 +1,13 @@
 package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._03_java;
 
-import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Blackship;
-import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Whiteship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns.support.ProductRegistry;
 
 public class SimpleFactory {
 
-    public Object createProduct(String name) {
-        if (name.equals("whiteship")) {
-            return new Whiteship();
-        } else if (name.equals("blackship")) {
-            return new Blackship();
-        }
+    private static final ProductRegistry<Ship> REGISTRY = ShipTypeProvider.loadRegistry();
 
-        throw new IllegalArgumentException();
+    public Object createProduct(String name) {
+        return REGISTRY.create(name);
     }
 }
@@ -1,5 +1,6 @@
 package me.whiteship.designpatterns._01_creational_patterns._02_factory_method._03_java;
 
+import me.whiteship.designpatterns.support.BeanStartupReport;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
@@ -7,11 +8,14 @@ import org.springframework.context.support.ClassPathXmlApplicationContext;
 public class SpringBeanFactoryExample {
 
     public static void main(String[] args) {
-        BeanFactory xmlFactory = new ClassPathXmlApplicationContext("config.xml");
+        BeanFactory xmlFactory = new BeanStartupReport().refresh(
+                new ClassPathXmlApplicationContext(new String[]{"config.xml"}, false, null));
         String hello = xmlFactory.getBean("hello", String.class);
         System.out.println(hello);
 
-        BeanFactory javaFactory = new AnnotationConfigApplicationContext(Config.class);
+        AnnotationConfigApplicationContext javaContext = new AnnotationConfigApplicationContext();
+        javaContext.register(Config.class);
+        BeanFactory javaFactory = new BeanStartupReport().refresh(javaContext);
         String hi = javaFactory.getBean("hello", String.class);
         System.out.println(hi);
     }
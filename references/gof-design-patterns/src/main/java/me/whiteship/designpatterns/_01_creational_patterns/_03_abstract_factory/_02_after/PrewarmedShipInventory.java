@@ -0,0 +1,177 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.DefaultShipFactory;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.ShipFactory;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부품 계열({@link ShipPartsFactory})마다 다 만든 배를 미리 쌓아 두는 재고.
+ * 주문은 락 없는 큐에서 배 하나를 꺼내기만 하고, 재고가 lowWatermark 이하로 내려가면
+ * 백그라운드 스레드가 targetStock 까지 다시 채운다. 재고가 비어 있으면 주문한 스레드에서 바로 만든다.
+ */
+public class PrewarmedShipInventory implements Closeable {
+
+    private final int targetStock;
+
+    private final int lowWatermark;
+
+    private final ExecutorService refillers;
+
+    private final Map<ShipPartsFactory, Stock> stocks = new ConcurrentHashMap<>();
+
+    public PrewarmedShipInventory(int targetStock, int lowWatermark, int refillThreads) {
+        if (lowWatermark < 0 || targetStock <= lowWatermark) {
+            throw new IllegalArgumentException("targetStock 은 lowWatermark 보다 커야 합니다.");
+        }
+        this.targetStock = targetStock;
+        this.lowWatermark = lowWatermark;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refillers = Executors.newFixedThreadPool(refillThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ship-inventory-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 부품 계열을 등록하고 채우기 시작한다. 돌려준 팩토리의 createShip, orderShip 은 재고에서 꺼낸다.
+     */
+    public ShipFactory register(ShipPartsFactory shipPartsFactory) {
+        Stock stock = stocks.computeIfAbsent(shipPartsFactory, Stock::new);
+        stock.requestRefill();
+        return stock.shipFactory;
+    }
+
+    public Ship take(ShipPartsFactory shipPartsFactory) {
+        return stockOf(shipPartsFactory).take();
+    }
+
+    public int getStock(ShipPartsFactory shipPartsFactory) {
+        return stockOf(shipPartsFactory).count.get();
+    }
+
+    /**
+     * 재고에서 꺼낸 횟수
+     */
+    public long getHits(ShipPartsFactory shipPartsFactory) {
+        return stockOf(shipPartsFactory).hits.sum();
+    }
+
+    /**
+     * 재고가 없어서 주문한 스레드에서 만든 횟수
+     */
+    public long getMisses(ShipPartsFactory shipPartsFactory) {
+        return stockOf(shipPartsFactory).misses.sum();
+    }
+
+    private Stock stockOf(ShipPartsFactory shipPartsFactory) {
+        Stock stock = stocks.get(shipPartsFactory);
+        if (stock == null) {
+            throw new IllegalArgumentException(shipPartsFactory.getClass().getSimpleName() + " 은(는) 등록되지 않은 부품 계열입니다.");
+        }
+        return stock;
+    }
+
+    @Override
+    public void close() {
+        refillers.shutdownNow();
+        try {
+            refillers.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private class Stock {
+
+        private final ShipFactory assembler;
+
+        private final ShipFactory shipFactory = new StockedShipFactory(this);
+
+        private final ConcurrentLinkedQueue<Ship> ships = new ConcurrentLinkedQueue<>();
+
+        /**
+         * ConcurrentLinkedQueue.size() 는 큐를 다 세므로 따로 센다.
+         */
+        private final AtomicInteger count = new AtomicInteger();
+
+        private final AtomicBoolean refilling = new AtomicBoolean();
+
+        private final LongAdder hits = new LongAdder();
+
+        private final LongAdder misses = new LongAdder();
+
+        private Stock(ShipPartsFactory shipPartsFactory) {
+            this.assembler = new WhiteshipFactory(shipPartsFactory);
+        }
+
+        private Ship take() {
+            Ship ship = ships.poll();
+            if (ship != null) {
+                hits.increment();
+                if (count.decrementAndGet() <= lowWatermark) {
+                    requestRefill();
+                }
+                return ship;
+            }
+
+            misses.increment();
+            requestRefill();
+            return assembler.createShip();
+        }
+
+        /**
+         * 계열마다 채우는 작업은 한 번에 하나만 돈다.
+         */
+        private void requestRefill() {
+            if (refilling.compareAndSet(false, true)) {
+                try {
+                    refillers.execute(this::refill);
+                } catch (RejectedExecutionException e) {
+                    refilling.set(false);
+                }
+            }
+        }
+
+        private void refill() {
+            try {
+                while (count.get() < targetStock && !Thread.currentThread().isInterrupted()) {
+                    ships.offer(assembler.createShip());
+                    count.incrementAndGet();
+                }
+            } finally {
+                refilling.set(false);
+            }
+            // 채우는 동안 다시 내려갔으면
+            if (count.get() <= lowWatermark) {
+                requestRefill();
+            }
+        }
+    }
+
+    private static class StockedShipFactory extends DefaultShipFactory {
+
+        private final Stock stock;
+
+        private StockedShipFactory(Stock stock) {
+            this.stock = stock;
+        }
+
+        @Override
+        public Ship createShip() {
+            return stock.take();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import java.util.Arrays;
+
+/**
+ * 감싼 팩토리로 대표 부품 인스턴스를 하나씩 만들어 두고 모든 배에 같은 인스턴스를 준다.
+ * 부품에 배마다 다른 상태가 없을 때만 쓴다. 공유 범위는 이 인스턴스를 들고 있는 쪽이 정한다.
+ */
+class SharedPartsFactory implements ShipPartsFactory {
+
+    private final Anchor anchor;
+
+    private final Wheel wheel;
+
+    private SharedPartsFactory(ShipPartsFactory shipPartsFactory) {
+        this.anchor = shipPartsFactory.createAnchor();
+        this.wheel = shipPartsFactory.createWheel();
+    }
+
+    static SharedPartsFactory of(ShipPartsFactory shipPartsFactory) {
+        if (shipPartsFactory instanceof SharedPartsFactory) {
+            return (SharedPartsFactory) shipPartsFactory;
+        }
+        return new SharedPartsFactory(shipPartsFactory);
+    }
+
+    @Override
+    public Anchor createAnchor() {
+        return anchor;
+    }
+
+    @Override
+    public Wheel createWheel() {
+        return wheel;
+    }
+
+    @Override
+    public ShipParts createParts(int n) {
+        Anchor[] anchors = new Anchor[n];
+        Wheel[] wheels = new Wheel[n];
+        Arrays.fill(anchors, anchor);
+        Arrays.fill(wheels, wheel);
+        return new ShipParts(anchors, wheels);
+    }
+}
@@ -0,0 +1,17 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link ShipPartsFactory} 구현체가 만드는 부품 계열 이름. {@link ShipPartsFactories} 가 이 이름으로 찾는다.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ShipFamily {
+
+    String value();
+
+}
@@ -6,9 +6,18 @@ import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._0
 public class ShipInventory {
 
     public static void main(String[] args) {
-        ShipFactory shipFactory = new WhiteshipFactory(new WhiteshipPartsFactory());
+        ShipFactory shipFactory = new WhiteshipFactory(ShipPartsFactories.get("white"));
         Ship ship = shipFactory.createShip();
         System.out.println(ship.getAnchor().getClass());
         System.out.println(ship.getWheel().getClass());
+
+        try (PrewarmedShipInventory inventory = new PrewarmedShipInventory(64, 16, 1)) {
+            ShipPartsFactory proParts = ShipPartsFactories.get("white-pro");
+            ShipFactory proShipFactory = inventory.register(proParts);
+            Ship proShip = proShipFactory.orderShip("whiteship", "keesun@mail.com");
+            System.out.println(proShip.getAnchor().getClass());
+            System.out.println("재고 " + inventory.getStock(proParts) + ", 재고에서 " + inventory.getHits(proParts)
+                    + ", 바로 만듦 " + inventory.getMisses(proParts));
+        }
     }
 }
@@ -0,0 +1,28 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+/**
+ * {@link ShipPartsFactory#createParts(int)} 로 만든 배 n 척 분량의 부품. i 번째 배는 anchors[i], wheels[i] 를 쓴다.
+ */
+public class ShipParts {
+
+    private final Anchor[] anchors;
+
+    private final Wheel[] wheels;
+
+    ShipParts(Anchor[] anchors, Wheel[] wheels) {
+        this.anchors = anchors;
+        this.wheels = wheels;
+    }
+
+    public int size() {
+        return anchors.length;
+    }
+
+    public Anchor getAnchor(int index) {
+        return anchors[index];
+    }
+
+    public Wheel getWheel(int index) {
+        return wheels[index];
+    }
+}
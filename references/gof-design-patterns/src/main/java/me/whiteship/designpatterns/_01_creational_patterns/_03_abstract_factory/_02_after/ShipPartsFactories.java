@@ -0,0 +1,56 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * META-INF/services 의 ShipPartsFactory 목록을 처음 한 번만 읽어서 계열 이름으로 부품 팩토리를 찾는다.
+ * 목록을 읽을 때는 구현 클래스를 초기화하지 않고 {@link ShipFamily} 만 보고, 인스턴스는 처음 찾을 때 만들어 캐시한다.
+ * 계열 목록은 META-INF/services 파일 하나뿐이다.
+ */
+public class ShipPartsFactories {
+
+    private static final Map<String, ShipPartsFactory> RESOLVED = new ConcurrentHashMap<>();
+
+    private ShipPartsFactories() {
+    }
+
+    private static class IndexHolder {
+        private static final Map<String, ServiceLoader.Provider<ShipPartsFactory>> INDEX = load();
+
+        private static Map<String, ServiceLoader.Provider<ShipPartsFactory>> load() {
+            Map<String, ServiceLoader.Provider<ShipPartsFactory>> index = new LinkedHashMap<>();
+            ServiceLoader.load(ShipPartsFactory.class, ShipPartsFactory.class.getClassLoader())
+                    .stream()
+                    .forEach(provider -> {
+                        ShipFamily family = provider.type().getAnnotation(ShipFamily.class);
+                        String name = family == null ? provider.type().getSimpleName() : family.value();
+                        if (index.putIfAbsent(name, provider) != null) {
+                            throw new IllegalStateException(name + " 부품 계열이 두 번 등록되었습니다.");
+                        }
+                    });
+            return Collections.unmodifiableMap(index);
+        }
+    }
+
+    public static ShipPartsFactory get(String family) {
+        ShipPartsFactory shipPartsFactory = RESOLVED.get(family);
+        return shipPartsFactory != null ? shipPartsFactory : RESOLVED.computeIfAbsent(family, ShipPartsFactories::resolve);
+    }
+
+    public static Set<String> families() {
+        return IndexHolder.INDEX.keySet();
+    }
+
+    private static ShipPartsFactory resolve(String family) {
+        ServiceLoader.Provider<ShipPartsFactory> provider = IndexHolder.INDEX.get(family);
+        if (provider == null) {
+            throw new IllegalArgumentException(family + " 은(는) 없는 부품 계열입니다. " + families());
+        }
+        return provider.get();
+    }
+}
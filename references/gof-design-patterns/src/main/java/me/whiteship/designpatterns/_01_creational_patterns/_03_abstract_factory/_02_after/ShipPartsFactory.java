@@ -6,4 +6,25 @@ public interface ShipPartsFactory {
 
     Wheel createWheel();
 
+    /**
+     * 배 n 척 분량의 부품을 배열로 한꺼번에 만든다.
+     */
+    default ShipParts createParts(int n) {
+        Anchor[] anchors = new Anchor[n];
+        Wheel[] wheels = new Wheel[n];
+        for (int i = 0; i < n; i++) {
+            anchors[i] = createAnchor();
+            wheels[i] = createWheel();
+        }
+        return new ShipParts(anchors, wheels);
+    }
+
+    /**
+     * 상태가 없는 부품을 배마다 새로 만들지 않고 하나씩만 만들어 나눠 쓰는 팩토리.
+     * 부품은 돌려받은 팩토리 안에서만 공유되므로 호출하는 쪽이 이 팩토리를 들고 재사용한다.
+     */
+    static ShipPartsFactory shared(ShipPartsFactory shipPartsFactory) {
+        return SharedPartsFactory.of(shipPartsFactory);
+    }
+
 }
@@ -1,5 +1,6 @@
 package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._02_after;
 
+@ShipFamily("white-pro")
 public class WhitePartsProFactory implements ShipPartsFactory {
     @Override
     public Anchor createAnchor() {
@@ -0,0 +1,118 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import java.util.List;
+
+/**
+ * 설정 파일의 bean 요소 하나. id, class 와 constructor-arg, property 들.
+ */
+public class ConfigBean {
+
+    private final String id;
+
+    private final String className;
+
+    private final List<ConstructorArg> constructorArgs;
+
+    private final List<Property> properties;
+
+    public ConfigBean(String id, String className, List<ConstructorArg> constructorArgs, List<Property> properties) {
+        this.id = id;
+        this.className = className;
+        this.constructorArgs = List.copyOf(constructorArgs);
+        this.properties = List.copyOf(properties);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getClassName() {
+        return className;
+    }
+
+    public List<ConstructorArg> getConstructorArgs() {
+        return constructorArgs;
+    }
+
+    public List<Property> getProperties() {
+        return properties;
+    }
+
+    @Override
+    public String toString() {
+        return "ConfigBean{" +
+                "id='" + id + '\'' +
+                ", className='" + className + '\'' +
+                ", constructorArgs=" + constructorArgs +
+                ", properties=" + properties +
+                '}';
+    }
+
+    /**
+     * constructor-arg 하나. value 로 준 값이거나 ref 로 가리킨 다른 bean 의 id 다. {@code <null/>} 이면 value 가 null 이다.
+     */
+    public static class ConstructorArg {
+
+        private final String value;
+
+        private final String ref;
+
+        private ConstructorArg(String value, String ref) {
+            this.value = value;
+            this.ref = ref;
+        }
+
+        public static ConstructorArg value(String value) {
+            return new ConstructorArg(value, null);
+        }
+
+        public static ConstructorArg ref(String ref) {
+            return new ConstructorArg(null, ref);
+        }
+
+        public boolean isRef() {
+            return ref != null;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public String getRef() {
+            return ref;
+        }
+
+        @Override
+        public String toString() {
+            return isRef() ? "ref=" + ref : "value=" + value;
+        }
+    }
+
+    /**
+     * property 하나. name 과 constructor-arg 와 같은 모양의 값.
+     */
+    public static class Property {
+
+        private final String name;
+
+        private final ConstructorArg value;
+
+        public Property(String name, ConstructorArg value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public ConstructorArg getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return name + "(" + value + ")";
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
 
 import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns.support.BeanStartupReport;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
@@ -12,7 +13,9 @@ public class FactoryBeanExample {
 //        Ship whiteship = applicationContext.getBean("whiteship", Ship.class);
 //        System.out.println(whiteship.getName());
 
-        ApplicationContext applicationContext = new AnnotationConfigApplicationContext(FactoryBeanConfig.class);
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.register(FactoryBeanConfig.class);
+        ApplicationContext applicationContext = new BeanStartupReport().refresh(context);
         Ship bean = applicationContext.getBean(Ship.class);
         System.out.println(bean);
     }
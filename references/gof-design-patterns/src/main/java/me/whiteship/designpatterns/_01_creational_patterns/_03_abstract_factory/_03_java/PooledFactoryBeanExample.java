@@ -0,0 +1,22 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+public class PooledFactoryBeanExample {
+
+    public static void main(String[] args) {
+        ApplicationContext applicationContext = new AnnotationConfigApplicationContext(PooledShipFactoryConfig.class);
+        PooledShipFactory pool = applicationContext.getBean("&pooledShipFactory", PooledShipFactory.class);
+
+        Ship ship = applicationContext.getBean(Ship.class);
+        ship.setColor("black");
+        pool.release(ship);
+
+        Ship again = applicationContext.getBean(Ship.class);
+        System.out.println((ship == again) + " " + again);
+        pool.release(again);
+        System.out.println(pool);
+    }
+}
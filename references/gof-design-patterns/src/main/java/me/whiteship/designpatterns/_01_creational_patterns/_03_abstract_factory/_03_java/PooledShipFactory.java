@@ -0,0 +1,322 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Ship;
+import me.whiteship.designpatterns._01_creational_patterns._02_factory_method._02_after.Whiteship;
+import org.springframework.beans.factory.FactoryBean;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 프로토타입 배를 매번 만들지 않고 최대 maxTotal 척까지만 만들어 돌려 쓰는 FactoryBean.
+ * getObject 로 빌려 가고 다 쓰면 {@link #release(Ship)} 로 돌려준다. 돌려받은 배는 처음 만든 상태로 되돌린다.
+ * 다 빌려 갔으면 maxWait 만큼 기다리고, 그래도 없으면 풀에 넣지 않을 배를 하나 더 만들어 준다.
+ * 빌려 간 배는 객체 자체로 약하게 기억해 두고, 이 풀에서 빌려 가지 않았거나 이미 돌려준 배는 받지 않는다.
+ * Spring 에서 getBean 으로 받아 가고 돌려주지 않은 배는 GC 가 가져간 뒤 다음 getObject 때 그 자리를 되찾는다.
+ * 풀에서 만든 배마다 약한 참조 칸 하나를 만들어 계속 다시 쓰므로 빌리고 돌려줄 때는 할당하지 않는다.
+ */
+public class PooledShipFactory implements FactoryBean<Ship> {
+
+    private final Ship template = newShip();
+
+    /**
+     * 놀고 있는 칸. 칸이 배를 강하게 붙잡고 있어서 노는 배는 GC 가 가져가지 않는다.
+     */
+    private final BlockingQueue<Slot> idle;
+
+    private final int maxTotal;
+
+    private final long maxWaitNanos;
+
+    /**
+     * 살아 있는 배의 칸. 키와 값이 같은 칸이고, 배로 찾을 때는 스레드마다 하나인 {@link Probe} 로 찾는다.
+     */
+    private final Map<Object, Slot> slots = new ConcurrentHashMap<>();
+
+    private final ReferenceQueue<Ship> collected = new ReferenceQueue<>();
+
+    private final ThreadLocal<Probe> probes = ThreadLocal.withInitial(Probe::new);
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private final AtomicInteger borrowed = new AtomicInteger();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder overflows = new LongAdder();
+
+    private final LongAdder waitNanos = new LongAdder();
+
+    private final LongAdder released = new LongAdder();
+
+    private final LongAdder dropped = new LongAdder();
+
+    private final LongAdder leaked = new LongAdder();
+
+    public PooledShipFactory(int maxTotal, Duration maxWait) {
+        if (maxTotal < 1) {
+            throw new IllegalArgumentException("maxTotal 은 1 이상이어야 합니다.");
+        }
+        this.idle = new ArrayBlockingQueue<>(maxTotal);
+        this.maxTotal = maxTotal;
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public Ship getObject() throws Exception {
+        reclaimLeaked();
+        Slot slot = idle.poll();
+        if (slot != null) {
+            hits.increment();
+            return slot.lend();
+        }
+
+        if (reserve()) {
+            misses.increment();
+            return newSlot(true).lend();
+        }
+
+        long start = System.nanoTime();
+        slot = idle.poll(maxWaitNanos, TimeUnit.NANOSECONDS);
+        waitNanos.add(System.nanoTime() - start);
+        if (slot != null) {
+            hits.increment();
+            return slot.lend();
+        }
+
+        // 기다리는 동안 GC 가 가져간 배가 있으면 그 자리로 만든다.
+        reclaimLeaked();
+        if (reserve()) {
+            misses.increment();
+            return newSlot(true).lend();
+        }
+
+        overflows.increment();
+        return newSlot(false).lend();
+    }
+
+    private Slot newSlot(boolean pooled) {
+        Slot slot = new Slot(newShip(), pooled, collected);
+        slots.put(slot, slot);
+        return slot;
+    }
+
+    private boolean reserve() {
+        int count;
+        do {
+            count = created.get();
+            if (count >= maxTotal) {
+                return false;
+            }
+        } while (!created.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * 돌려받지 못한 채 GC 가 가져간 배의 자리를 되돌린다.
+     */
+    private void reclaimLeaked() {
+        Slot slot;
+        while ((slot = (Slot) collected.poll()) != null) {
+            if (slots.remove(slot, slot)) {
+                borrowed.decrementAndGet();
+                if (slot.pooled) {
+                    created.decrementAndGet();
+                    leaked.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * 빌려 간 배를 돌려준다. 기다리다 못해 더 만들어 준 배는 풀에 넣지 않고 버린다.
+     *
+     * @throws IllegalArgumentException 이 풀에서 빌려 간 배가 아니거나 이미 돌려준 배
+     */
+    public void release(Ship ship) {
+        Slot slot = find(ship);
+        if (slot == null || !slot.giveBack()) {
+            throw new IllegalArgumentException("이 풀에서 빌려 간 배가 아니거나 이미 돌려준 배입니다. " + ship);
+        }
+        borrowed.decrementAndGet();
+        if (slot.pooled) {
+            reset(ship);
+            slot.ship = ship;
+            idle.add(slot);
+            released.increment();
+        } else {
+            slots.remove(slot, slot);
+            slot.clear();
+            dropped.increment();
+        }
+    }
+
+    private Slot find(Ship ship) {
+        if (ship == null) {
+            return null;
+        }
+        Probe probe = probes.get();
+        probe.ship = ship;
+        try {
+            return slots.get(probe);
+        } finally {
+            probe.ship = null;
+        }
+    }
+
+    private void reset(Ship ship) {
+        ship.setName(template.getName());
+        ship.setColor(template.getColor());
+        ship.setLogo(template.getLogo());
+        ship.setAnchor(null);
+        ship.setWheel(null);
+    }
+
+    private static Ship newShip() {
+        Ship ship = new Whiteship();
+        ship.setName("whiteship");
+        return ship;
+    }
+
+    @Override
+    public Class<?> getObjectType() {
+        return Ship.class;
+    }
+
+    /**
+     * 빌려 간 배는 빌린 쪽만 쓰므로 항상 프로토타입이다. 배 하나를 같이 쓰려면 풀 없이 {@link ShipFactory} 를 쓴다.
+     */
+    @Override
+    public boolean isSingleton() {
+        return false;
+    }
+
+    public int getBorrowed() {
+        return borrowed.get();
+    }
+
+    public int getIdle() {
+        return idle.size();
+    }
+
+    public int getCreated() {
+        return created.get();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+    public long getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    public long getReleased() {
+        return released.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * 돌려받지 못하고 GC 가 가져가서 자리를 되찾은 배 수.
+     */
+    public long getLeaked() {
+        return leaked.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "PooledShipFactory{" +
+                "idle=" + getIdle() +
+                ", borrowed=" + getBorrowed() +
+                ", created=" + getCreated() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", overflows=" + getOverflows() +
+                ", waitMillis=" + TimeUnit.NANOSECONDS.toMillis(getWaitNanos()) +
+                ", released=" + getReleased() +
+                ", dropped=" + getDropped() +
+                ", leaked=" + getLeaked() +
+                '}';
+    }
+
+    /**
+     * 배 하나의 칸. 배를 약하게 가리키고, 놀고 있을 때만 {@link #ship} 으로 강하게 붙잡는다.
+     * 빌려 간 배를 돌려주지 않고 버리면 GC 가 배를 가져가면서 이 칸이 collected 큐에 들어온다.
+     */
+    private final class Slot extends WeakReference<Ship> {
+
+        private final int hash;
+
+        private final boolean pooled;
+
+        private Ship ship;
+
+        private volatile int out;
+
+        private Slot(Ship ship, boolean pooled, ReferenceQueue<Ship> queue) {
+            super(ship, queue);
+            this.hash = System.identityHashCode(ship);
+            this.pooled = pooled;
+            this.ship = ship;
+        }
+
+        private Ship lend() {
+            Ship ship = this.ship;
+            this.ship = null;
+            this.out = 1;
+            borrowed.incrementAndGet();
+            return ship;
+        }
+
+        private boolean giveBack() {
+            return OUT.compareAndSet(this, 1, 0);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final AtomicIntegerFieldUpdater<Slot> OUT = AtomicIntegerFieldUpdater.newUpdater(Slot.class, "out");
+
+    /**
+     * 배로 칸을 찾을 때 쓰는 키. 찾을 때마다 새로 만들지 않도록 스레드마다 하나를 다시 쓴다.
+     */
+    private static final class Probe {
+
+        private Ship ship;
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof WeakReference && ((WeakReference<?>) o).get() == ship;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(ship);
+        }
+    }
+}
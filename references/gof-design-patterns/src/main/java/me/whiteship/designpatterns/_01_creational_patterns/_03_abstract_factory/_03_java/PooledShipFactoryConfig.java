@@ -0,0 +1,15 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class PooledShipFactoryConfig {
+
+    @Bean
+    public PooledShipFactory pooledShipFactory() {
+        return new PooledShipFactory(16, Duration.ofMillis(10));
+    }
+}
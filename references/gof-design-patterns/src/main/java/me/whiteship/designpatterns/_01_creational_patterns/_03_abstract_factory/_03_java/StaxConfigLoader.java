@@ -0,0 +1,164 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 설정 파일을 DOM 으로 다 올리지 않고 XMLStreamReader 로 읽으면서 bean 요소마다 {@link ConfigBean} 을 넘긴다.
+ * 한 번에 bean 하나만 들고 있으므로 파일 크기와 상관없이 메모리를 거의 쓰지 않는다.
+ * XMLInputFactory 는 스레드 안전이 보장되지 않아서 스레드마다 하나씩 만들어 재사용한다.
+ */
+public class StaxConfigLoader {
+
+    private static final ThreadLocal<XMLInputFactory> FACTORY = ThreadLocal.withInitial(() -> {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    });
+
+    /**
+     * @return 읽은 bean 수
+     */
+    public long load(Path path, Consumer<ConfigBean> consumer) {
+        try (InputStream inputStream = Files.newInputStream(path)) {
+            return load(inputStream, consumer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(path + " 설정 파일을 읽을 수 없습니다.", e);
+        }
+    }
+
+    public long load(InputStream inputStream, Consumer<ConfigBean> consumer) {
+        XMLStreamReader reader = null;
+        try {
+            reader = FACTORY.get().createXMLStreamReader(inputStream);
+            long count = 0;
+            while (reader.hasNext()) {
+                if (reader.next() == XMLStreamConstants.START_ELEMENT && reader.getLocalName().equals("bean")) {
+                    consumer.accept(readBean(reader));
+                    count++;
+                }
+            }
+            return count;
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException("설정 파일 형식이 잘못되었습니다.", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    // 닫다가 난 오류는 무시
+                }
+            }
+        }
+    }
+
+    /**
+     * bean 시작 요소에 있는 reader 를 bean 끝 요소까지 읽는다.
+     * constructor-arg, property, description 말고 다른 자식 요소가 있으면 버리지 않고 IllegalArgumentException 을 던진다.
+     */
+    private ConfigBean readBean(XMLStreamReader reader) throws XMLStreamException {
+        String id = reader.getAttributeValue(null, "id");
+        String className = reader.getAttributeValue(null, "class");
+        List<ConfigBean.ConstructorArg> constructorArgs = new ArrayList<>(2);
+        List<ConfigBean.Property> properties = new ArrayList<>(2);
+
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            switch (reader.getLocalName()) {
+                case "constructor-arg":
+                    constructorArgs.add(readValue(reader, id, "constructor-arg"));
+                    break;
+                case "property":
+                    String name = reader.getAttributeValue(null, "name");
+                    if (name == null) {
+                        throw parseError(reader, id, "property", "name 속성이 없습니다.");
+                    }
+                    properties.add(new ConfigBean.Property(name, readValue(reader, id, "property " + name)));
+                    break;
+                case "description":
+                    skipElement(reader);
+                    break;
+                default:
+                    throw parseError(reader, id, "자식 요소", "<" + reader.getLocalName() + "> 은(는) 지원하지 않습니다.");
+            }
+        }
+        return new ConfigBean(id, className, constructorArgs, properties);
+    }
+
+    /**
+     * constructor-arg 나 property 의 value 나 ref 속성, 또는 안에 든 value, ref bean, null 요소 하나를 읽고 끝 요소까지 넘어간다.
+     * 그 밖의 모양(list, 안쪽 bean 등)은 IllegalArgumentException 을 던진다.
+     */
+    private ConfigBean.ConstructorArg readValue(XMLStreamReader reader, String id, String element) throws XMLStreamException {
+        String value = reader.getAttributeValue(null, "value");
+        String ref = reader.getAttributeValue(null, "ref");
+        if (value != null && ref != null) {
+            throw parseError(reader, id, element, "value 와 ref 를 같이 쓸 수 없습니다.");
+        }
+        ConfigBean.ConstructorArg arg = value != null ? ConfigBean.ConstructorArg.value(value)
+                : ref != null ? ConfigBean.ConstructorArg.ref(ref) : null;
+
+        while (reader.next() != XMLStreamConstants.END_ELEMENT) {
+            if (reader.getEventType() != XMLStreamConstants.START_ELEMENT) {
+                continue;
+            }
+            if (arg != null) {
+                throw parseError(reader, id, element, "값은 하나만 줄 수 있습니다.");
+            }
+            switch (reader.getLocalName()) {
+                case "value":
+                    arg = ConfigBean.ConstructorArg.value(reader.getElementText());
+                    break;
+                case "ref":
+                    String bean = reader.getAttributeValue(null, "bean");
+                    if (bean == null) {
+                        throw parseError(reader, id, element, "<ref> 에 bean 속성이 없습니다.");
+                    }
+                    arg = ConfigBean.ConstructorArg.ref(bean);
+                    skipElement(reader);
+                    break;
+                case "null":
+                    arg = ConfigBean.ConstructorArg.value(null);
+                    skipElement(reader);
+                    break;
+                default:
+                    throw parseError(reader, id, element, "<" + reader.getLocalName() + "> 은(는) 지원하지 않습니다.");
+            }
+        }
+
+        if (arg == null) {
+            throw parseError(reader, id, element, "value 나 ref 가 없습니다.");
+        }
+        return arg;
+    }
+
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    private static IllegalArgumentException parseError(XMLStreamReader reader, String id, String element, String message) {
+        return new IllegalArgumentException(reader.getLocation().getLineNumber() + " 번째 줄, bean " + id
+                + " 의 " + element + ": " + message);
+    }
+}
@@ -0,0 +1,12 @@
+package me.whiteship.designpatterns._01_creational_patterns._03_abstract_factory._03_java;
+
+import java.nio.file.Path;
+
+public class StaxConfigLoaderExample {
+
+    public static void main(String[] args) {
+        StaxConfigLoader loader = new StaxConfigLoader();
+        long beans = loader.load(Path.of("src/main/resources/config.xml"), System.out::println);
+        System.out.println(beans);
+    }
+}
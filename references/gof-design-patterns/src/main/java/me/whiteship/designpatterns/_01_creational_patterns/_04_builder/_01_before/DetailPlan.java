@@ -1,6 +1,8 @@
 package me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before;
 
-public class DetailPlan {
+import me.whiteship.designpatterns.support.Renderable;
+
+public class DetailPlan implements Renderable {
 
     private int day;
 
@@ -34,4 +36,17 @@ public class DetailPlan {
                 ", plan='" + plan + '\'' +
                 '}';
     }
+
+    @Override
+    public void appendTo(StringBuilder out) {
+        appendTo(out, day, plan);
+    }
+
+    /**
+     * DetailPlan 객체 없이 같은 모양으로 쓴다. {@link DetailPlans} 가 쓴다.
+     */
+    static void appendTo(StringBuilder out, int day, String plan) {
+        out.append("DetailPlan{day=").append(day).append(", plan=");
+        Renderable.appendQuoted(out, plan).append('}');
+    }
 }
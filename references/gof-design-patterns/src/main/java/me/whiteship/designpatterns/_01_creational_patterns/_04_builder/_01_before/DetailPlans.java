@@ -0,0 +1,213 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * DetailPlan 을 객체 하나씩 두지 않고 날짜 int[] 와 일정 String[] 두 배열로 들고 있는 바꿀 수 없는 목록.
+ * 일정은 넣은 순서대로 두고, 일정이 있는 날짜만 정렬해 둔 표와 시작 위치 표를 만들어서
+ * {@link #plansForDay(int)} 를 이진 탐색 한 번으로 돌려준다. 날짜가 띄엄띄엄 아주 커도 표는 일정 수만큼만 커진다.
+ * 날짜 순으로 넣지 않았을 때만 날짜 순 위치 표(order)를 하나 더 둔다.
+ * <p>
+ * 바꿀 수 없고, get(i) 은 그때마다 DetailPlan 을 새로 만들므로 돌려받은 DetailPlan 을 고쳐도 반영되지 않는다.
+ * 일정을 더하려면 TourPlan.addPlan 처럼 새로 만든다.
+ */
+public final class DetailPlans extends AbstractList<DetailPlan> implements RandomAccess {
+
+    public static final DetailPlans EMPTY = new DetailPlans(new int[0], new String[0], null, new int[0], new int[]{0});
+
+    private final int[] days;
+
+    private final String[] plans;
+
+    /**
+     * 날짜 순(같은 날짜는 넣은 순서대로)으로 늘어놓은 일정 위치. 넣은 순서가 이미 날짜 순이면 null.
+     */
+    private final int[] order;
+
+    /**
+     * 일정이 있는 날짜를 오름차순으로 한 번씩.
+     */
+    private final int[] dayKeys;
+
+    /**
+     * dayKeys[k] 날의 일정은 날짜 순으로 [offsets[k], offsets[k + 1]) 에 있다.
+     */
+    private final int[] offsets;
+
+    private DetailPlans(int[] days, String[] plans, int[] order, int[] dayKeys, int[] offsets) {
+        this.days = days;
+        this.plans = plans;
+        this.order = order;
+        this.dayKeys = dayKeys;
+        this.offsets = offsets;
+    }
+
+    public static DetailPlans copyOf(Collection<DetailPlan> detailPlans) {
+        if (detailPlans instanceof DetailPlans) {
+            return (DetailPlans) detailPlans;
+        }
+        Builder builder = new Builder(detailPlans.size());
+        for (DetailPlan detailPlan : detailPlans) {
+            builder.add(detailPlan.getDay(), detailPlan.getPlan());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public DetailPlan get(int index) {
+        return new DetailPlan(days[index], plans[index]);
+    }
+
+    @Override
+    public int size() {
+        return plans.length;
+    }
+
+    public int dayAt(int index) {
+        return days[index];
+    }
+
+    public String planAt(int index) {
+        return plans[index];
+    }
+
+    /**
+     * 일정이 있는 날짜 수
+     */
+    public int getDayCount() {
+        return dayKeys.length;
+    }
+
+    public List<String> plansForDay(int day) {
+        int key = Arrays.binarySearch(dayKeys, day);
+        if (key < 0) {
+            return List.of();
+        }
+        return new DayView(offsets[key], offsets[key + 1]);
+    }
+
+    private class DayView extends AbstractList<String> implements RandomAccess {
+
+        private final int from;
+
+        private final int to;
+
+        private DayView(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= to - from) {
+                throw new IndexOutOfBoundsException(index);
+            }
+            return plans[order == null ? from + index : order[from + index]];
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * 일정을 배열에 모았다가 {@link #build()} 에서 날짜별로 묶는다. {@link #clear()} 후 다시 쓸 수 있다.
+     */
+    public static class Builder {
+
+        private int[] days;
+
+        private String[] plans;
+
+        private int size;
+
+        private boolean sorted = true;
+
+        public Builder() {
+            this(8);
+        }
+
+        public Builder(int expectedSize) {
+            this.days = new int[Math.max(1, expectedSize)];
+            this.plans = new String[Math.max(1, expectedSize)];
+        }
+
+        public Builder add(int day, String plan) {
+            if (size == plans.length) {
+                days = Arrays.copyOf(days, size * 2);
+                plans = Arrays.copyOf(plans, size * 2);
+            }
+            if (size > 0 && day < days[size - 1]) {
+                sorted = false;
+            }
+            days[size] = day;
+            plans[size] = plan;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public Builder addAll(DetailPlans detailPlans) {
+            for (int i = 0; i < detailPlans.size(); i++) {
+                add(detailPlans.dayAt(i), detailPlans.planAt(i));
+            }
+            return this;
+        }
+
+        public DetailPlans build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+
+            int[] order = null;
+            int[] sortedDays = Arrays.copyOf(days, size);
+            if (!sorted) {
+                // (날짜, 넣은 순서) 로 정렬해서 같은 날짜는 넣은 순서를 지킨다.
+                long[] sortKeys = new long[size];
+                for (int i = 0; i < size; i++) {
+                    sortKeys[i] = (long) days[i] << 32 | i;
+                }
+                Arrays.sort(sortKeys);
+                order = new int[size];
+                for (int i = 0; i < size; i++) {
+                    order[i] = (int) sortKeys[i];
+                    sortedDays[i] = days[order[i]];
+                }
+            }
+
+            int keys = 1;
+            for (int i = 1; i < size; i++) {
+                if (sortedDays[i] != sortedDays[i - 1]) {
+                    keys++;
+                }
+            }
+            int[] dayKeys = new int[keys];
+            int[] offsets = new int[keys + 1];
+            int key = 0;
+            for (int i = 0; i < size; i++) {
+                if (i == 0 || sortedDays[i] != sortedDays[i - 1]) {
+                    dayKeys[key] = sortedDays[i];
+                    offsets[key++] = i;
+                }
+            }
+            offsets[keys] = size;
+            return new DetailPlans(order == null ? sortedDays : Arrays.copyOf(days, size), Arrays.copyOf(plans, size),
+                    order, dayKeys, offsets);
+        }
+
+        public Builder clear() {
+            Arrays.fill(plans, 0, size, null);
+            size = 0;
+            sorted = true;
+            return this;
+        }
+    }
+}
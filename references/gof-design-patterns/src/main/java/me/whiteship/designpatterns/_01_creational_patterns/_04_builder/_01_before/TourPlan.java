@@ -1,9 +1,12 @@
 package me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before;
 
+import me.whiteship.designpatterns.support.Renderable;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
-public class TourPlan {
+public class TourPlan implements Renderable {
 
     private String title;
 
@@ -31,14 +34,20 @@ public class TourPlan {
 
     @Override
     public String toString() {
-        return "TourPlan{" +
-                "title='" + title + '\'' +
-                ", nights=" + nights +
-                ", days=" + days +
-                ", startDate=" + startDate +
-                ", whereToStay='" + whereToStay + '\'' +
-                ", plans=" + plans +
-                '}';
+        return render();
+    }
+
+    @Override
+    public void appendTo(StringBuilder out) {
+        out.append("TourPlan{title=");
+        Renderable.appendQuoted(out, title)
+                .append(", nights=").append(nights)
+                .append(", days=").append(days)
+                .append(", startDate=");
+        Renderable.appendDate(out, startDate).append(", whereToStay=");
+        Renderable.appendQuoted(out, whereToStay).append(", plans=");
+        appendPlans(out, getPlans());
+        out.append('}');
     }
 
     public String getTitle() {
@@ -89,7 +98,69 @@ public class TourPlan {
         this.plans = plans;
     }
 
+    /**
+     * 일정이 {@link DetailPlans} 로 들어 있으면 일정을 하나 더한 DetailPlans 를 새로 만들어서 날짜별 조회를 그대로 빠르게 둔다.
+     */
     public void addPlan(int day, String plan) {
+        if (this.plans == null) {
+            this.plans = new ArrayList<>();
+        } else if (this.plans instanceof DetailPlans) {
+            DetailPlans detailPlans = (DetailPlans) this.plans;
+            this.plans = new DetailPlans.Builder(detailPlans.size() + 1).addAll(detailPlans).add(day, plan).build();
+            return;
+        }
         this.plans.add(new DetailPlan(day, plan));
     }
+
+    /**
+     * day 날의 일정. 일정이 {@link DetailPlans} 로 들어 있으면 이진 탐색 한 번이고, 아니면 전체를 훑는다.
+     */
+    public List<String> plansForDay(int day) {
+        if (this.plans instanceof DetailPlans) {
+            return ((DetailPlans) this.plans).plansForDay(day);
+        }
+        if (this.plans == null) {
+            return List.of();
+        }
+
+        List<String> plansForDay = new ArrayList<>();
+        for (DetailPlan detailPlan : this.plans) {
+            if (detailPlan.getDay() == day) {
+                plansForDay.add(detailPlan.getPlan());
+            }
+        }
+        return plansForDay;
+    }
+
+    private static void appendPlans(StringBuilder out, List<DetailPlan> plans) {
+        if (plans == null) {
+            out.append("null");
+            return;
+        }
+
+        out.append('[');
+        if (plans instanceof DetailPlans) {
+            DetailPlans detailPlans = (DetailPlans) plans;
+            for (int i = 0; i < detailPlans.size(); i++) {
+                if (i > 0) {
+                    out.append(", ");
+                }
+                DetailPlan.appendTo(out, detailPlans.dayAt(i), detailPlans.planAt(i));
+            }
+        } else {
+            boolean first = true;
+            for (DetailPlan detailPlan : plans) {
+                if (!first) {
+                    out.append(", ");
+                }
+                first = false;
+                if (detailPlan == null) {
+                    out.append("null");
+                } else {
+                    detailPlan.appendTo(out);
+                }
+            }
+        }
+        out.append(']');
+    }
 }
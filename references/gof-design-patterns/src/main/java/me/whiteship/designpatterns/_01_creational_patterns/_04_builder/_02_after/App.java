@@ -2,11 +2,37 @@ package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_afte
 
 import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
 public class App {
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
         TourDirector director = new TourDirector(new DefaultTourBuilder());
         TourPlan tourPlan = director.cancunTrip();
         TourPlan tourPlan1 = director.longBeachTrip();
+
+        TourDirector reusableDirector = new TourDirector(ReusableTourBuilder.forCurrentThread());
+        System.out.println(reusableDirector.cancunTrip());
+        System.out.println(reusableDirector.longBeachTrip());
+
+        TourPlan myCancunTrip = director.trip("cancun");
+        myCancunTrip.setStartDate(LocalDate.of(2021, 12, 9));
+        myCancunTrip.addPlan(1, "해변가 산책");
+        System.out.println(myCancunTrip);
+        System.out.println(director.trip("cancun"));
+
+        Path tours = Files.createTempFile("tours", ".tsv");
+        Files.write(tours, List.of(
+                "# 제목\t박\t일\t시작일\t숙소\t날짜:일정...",
+                "칸쿤 여행\t2\t3\t2020-12-09\t리조트\t0:체크인하고 짐 풀기\t0:저녁 식사",
+                "롱비치\t0\t0\t2021-07-15\t",
+                "날짜가 틀린 여행\t1\t2\t2021-13-01\t호텔"));
+        TourPlanImporter.ImportStats stats = new TourPlanImporter(2, 1024).importFrom(tours, System.out::println);
+        System.out.println(stats);
+        Files.delete(tours);
     }
 }
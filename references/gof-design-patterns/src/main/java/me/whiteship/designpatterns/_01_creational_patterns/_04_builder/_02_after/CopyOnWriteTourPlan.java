@@ -0,0 +1,74 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlan;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlans;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 공유하는 여행 계획 템플릿 위에 고친 값만 따로 들고 있는 TourPlan.
+ * 제목, 날짜 같은 값은 만들 때 복사하고, 일정은 템플릿의 {@link DetailPlans} 를 그대로 쓰면서 추가한 일정만 따로 모은다.
+ */
+class CopyOnWriteTourPlan extends TourPlan {
+
+    private DetailPlans base;
+
+    private List<DetailPlan> added;
+
+    CopyOnWriteTourPlan(TourPlan template) {
+        super(template.getTitle(), template.getNights(), template.getDays(), template.getStartDate(),
+                template.getWhereToStay(), null);
+        this.base = template.getPlans() == null ? DetailPlans.EMPTY : DetailPlans.copyOf(template.getPlans());
+    }
+
+    @Override
+    public List<DetailPlan> getPlans() {
+        if (added == null) {
+            return base;
+        }
+        return new AbstractList<>() {
+            @Override
+            public DetailPlan get(int index) {
+                return index < base.size() ? base.get(index) : added.get(index - base.size());
+            }
+
+            @Override
+            public int size() {
+                return base.size() + added.size();
+            }
+        };
+    }
+
+    @Override
+    public void setPlans(List<DetailPlan> plans) {
+        this.base = plans == null ? DetailPlans.EMPTY : DetailPlans.copyOf(plans);
+        this.added = null;
+    }
+
+    @Override
+    public void addPlan(int day, String plan) {
+        if (added == null) {
+            added = new ArrayList<>();
+        }
+        added.add(new DetailPlan(day, plan));
+    }
+
+    @Override
+    public List<String> plansForDay(int day) {
+        List<String> basePlans = base.plansForDay(day);
+        if (added == null) {
+            return basePlans;
+        }
+
+        List<String> plansForDay = new ArrayList<>(basePlans);
+        for (DetailPlan detailPlan : added) {
+            if (detailPlan.getDay() == day) {
+                plansForDay.add(detailPlan.getPlan());
+            }
+        }
+        return plansForDay;
+    }
+}
@@ -1,12 +1,14 @@
 package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
 
-import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlan;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlans;
 import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.List;
 
+/**
+ * 일정은 배열에 모았다가 getPlan 에서 {@link DetailPlans} 로 한 번 만들어서 TourPlan.plansForDay 가 전체를 훑지 않게 한다.
+ * 일정 순서는 넣은 순서 그대로다.
+ */
 public class DefaultTourBuilder implements TourPlanBuilder {
 
     private String title;
@@ -19,7 +21,7 @@ public class DefaultTourBuilder implements TourPlanBuilder {
 
     private String whereToStay;
 
-    private List<DetailPlan> plans;
+    private DetailPlans.Builder plans;
 
     @Override
     public TourPlanBuilder nightsAndDays(int nights, int days) {
@@ -49,15 +51,15 @@ public class DefaultTourBuilder implements TourPlanBuilder {
     @Override
     public TourPlanBuilder addPlan(int day, String plan) {
         if (this.plans == null) {
-            this.plans = new ArrayList<>();
+            this.plans = new DetailPlans.Builder();
         }
 
-        this.plans.add(new DetailPlan(day, plan));
+        this.plans.add(day, plan);
         return this;
     }
 
     @Override
     public TourPlan getPlan() {
-        return new TourPlan(title, nights, days, startDate, whereToStay, plans);
+        return new TourPlan(title, nights, days, startDate, whereToStay, plans == null ? null : plans.build());
     }
 }
@@ -0,0 +1,56 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlan;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 만든 뒤에는 바꿀 수 없는 TourPlan. 일정 목록은 받은 그대로 쓰므로 바꿀 수 없는 목록을 넘겨야 한다.
+ */
+final class ImmutableTourPlan extends TourPlan {
+
+    ImmutableTourPlan(String title, int nights, int days, LocalDate startDate, String whereToStay, List<DetailPlan> plans) {
+        super(title, nights, days, startDate, whereToStay, plans);
+    }
+
+    @Override
+    public void setTitle(String title) {
+        throw immutable();
+    }
+
+    @Override
+    public void setNights(int nights) {
+        throw immutable();
+    }
+
+    @Override
+    public void setDays(int days) {
+        throw immutable();
+    }
+
+    @Override
+    public void setStartDate(LocalDate startDate) {
+        throw immutable();
+    }
+
+    @Override
+    public void setWhereToStay(String whereToStay) {
+        throw immutable();
+    }
+
+    @Override
+    public void setPlans(List<DetailPlan> plans) {
+        throw immutable();
+    }
+
+    @Override
+    public void addPlan(int day, String plan) {
+        throw immutable();
+    }
+
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("다 만든 여행 계획은 바꿀 수 없습니다.");
+    }
+}
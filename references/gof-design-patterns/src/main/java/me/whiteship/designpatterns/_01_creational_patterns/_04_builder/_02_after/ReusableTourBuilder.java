@@ -0,0 +1,83 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.DetailPlans;
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+
+import java.time.LocalDate;
+
+/**
+ * 여러 번 다시 쓸 수 있는 TourPlanBuilder. getPlan 은 바꿀 수 없는 TourPlan 을 만들고 빌더를 비운다.
+ * 일정은 재사용하는 배열에 모았다가 getPlan 에서 딱 맞는 크기의 {@link DetailPlans} 로 한 번만 복사한다.
+ * 스레드 안전하지 않으므로 {@link #forCurrentThread()} 로 스레드마다 하나씩 쓴다.
+ */
+public class ReusableTourBuilder implements TourPlanBuilder {
+
+    private static final ThreadLocal<ReusableTourBuilder> POOL = ThreadLocal.withInitial(ReusableTourBuilder::new);
+
+    private final DetailPlans.Builder plans = new DetailPlans.Builder();
+
+    private String title;
+
+    private int nights;
+
+    private int days;
+
+    private LocalDate startDate;
+
+    private String whereToStay;
+
+    /**
+     * 지금 스레드의 빌더를 비운 상태로 돌려준다.
+     */
+    public static ReusableTourBuilder forCurrentThread() {
+        return POOL.get().reset();
+    }
+
+    @Override
+    public TourPlanBuilder nightsAndDays(int nights, int days) {
+        this.nights = nights;
+        this.days = days;
+        return this;
+    }
+
+    @Override
+    public TourPlanBuilder title(String title) {
+        this.title = title;
+        return this;
+    }
+
+    @Override
+    public TourPlanBuilder startDate(LocalDate startDate) {
+        this.startDate = startDate;
+        return this;
+    }
+
+    @Override
+    public TourPlanBuilder whereToStay(String whereToStay) {
+        this.whereToStay = whereToStay;
+        return this;
+    }
+
+    @Override
+    public TourPlanBuilder addPlan(int day, String plan) {
+        this.plans.add(day, plan);
+        return this;
+    }
+
+    @Override
+    public TourPlan getPlan() {
+        TourPlan tourPlan = new ImmutableTourPlan(title, nights, days, startDate, whereToStay, plans.build());
+        reset();
+        return tourPlan;
+    }
+
+    public ReusableTourBuilder reset() {
+        this.title = null;
+        this.nights = 0;
+        this.days = 0;
+        this.startDate = null;
+        this.whereToStay = null;
+        this.plans.clear();
+        return this;
+    }
+}
@@ -3,9 +3,18 @@ package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_afte
 import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
 
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class TourDirector {
 
+    private static final Map<String, Function<TourPlanBuilder, TourPlan>> TRIPS = Map.of(
+            "cancun", TourDirector::cancun,
+            "longBeach", TourDirector::longBeach);
+
+    private static final Map<String, TourPlan> TEMPLATES = new ConcurrentHashMap<>();
+
     private TourPlanBuilder tourPlanBuilder;
 
     public TourDirector(TourPlanBuilder tourPlanBuilder) {
@@ -13,6 +22,34 @@ public class TourDirector {
     }
 
     public TourPlan cancunTrip() {
+        return cancun(tourPlanBuilder);
+    }
+
+    public TourPlan longBeachTrip() {
+        return longBeach(tourPlanBuilder);
+    }
+
+    /**
+     * 이름("cancun", "longBeach")으로 미리 만들어 둔 여행 계획을 고쳐 쓸 수 있는 사본으로 준다.
+     * 계획은 이름마다 처음 한 번만 만들고, 사본은 원래 일정을 복사하지 않고 나눠 쓴다.
+     */
+    public TourPlan trip(String name) {
+        TourPlan template = TEMPLATES.get(name);
+        if (template == null) {
+            template = TEMPLATES.computeIfAbsent(name, TourDirector::buildTemplate);
+        }
+        return new CopyOnWriteTourPlan(template);
+    }
+
+    private static TourPlan buildTemplate(String name) {
+        Function<TourPlanBuilder, TourPlan> trip = TRIPS.get(name);
+        if (trip == null) {
+            throw new IllegalArgumentException(name + " 은(는) 없는 여행입니다. " + TRIPS.keySet());
+        }
+        return trip.apply(new ReusableTourBuilder());
+    }
+
+    private static TourPlan cancun(TourPlanBuilder tourPlanBuilder) {
         return tourPlanBuilder.title("칸쿤 여행")
                 .nightsAndDays(2, 3)
                 .startDate(LocalDate.of(2020, 12, 9))
@@ -22,7 +59,7 @@ public class TourDirector {
                 .getPlan();
     }
 
-    public TourPlan longBeachTrip() {
+    private static TourPlan longBeach(TourPlanBuilder tourPlanBuilder) {
         return tourPlanBuilder.title("롱비치")
                 .startDate(LocalDate.of(2021, 7, 15))
                 .getPlan();
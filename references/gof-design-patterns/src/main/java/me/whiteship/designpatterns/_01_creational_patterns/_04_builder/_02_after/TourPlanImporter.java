@@ -0,0 +1,266 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._02_after;
+
+import me.whiteship.designpatterns._01_creational_patterns._04_builder._01_before.TourPlan;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 한 줄에 여행 계획 하나가 있는 파일을 읽어서 TourPlan 으로 만들어 consumer 에 넘긴다.
+ * <pre>
+ * 제목 \t 박 \t 일 \t 시작일(yyyy-MM-dd) \t 숙소 [\t 날짜:일정]...
+ * </pre>
+ * 빈 칸은 null 이고, 빈 줄과 # 으로 시작하는 줄은 건너뛴다.
+ * 호출한 스레드가 chunkLines 줄씩 묶어 크기가 정해진 큐에 넣고, workers 개의 스레드가 저마다 {@link ReusableTourBuilder}
+ * 하나를 다시 쓰면서 만든다. 메모리에는 큐의 workers * 2 묶음과 스레드마다 처리 중인 묶음 하나만 올라가므로
+ * 파일 크기와 상관없다.
+ * consumer 는 여러 스레드에서 불리므로 스레드 안전해야 하고, 파일 순서대로 불린다는 보장은 없다.
+ * 일하는 스레드가 모두 죽으면 더 읽지 않고 IllegalStateException 을 던지므로 가져오기가 멈춰 있지 않는다.
+ */
+public class TourPlanImporter {
+
+    private static final List<String> END = Collections.emptyList();
+
+    private static final long OFFER_MILLIS = 100;
+
+    private final int workers;
+
+    private final int chunkLines;
+
+    public TourPlanImporter() {
+        this(Runtime.getRuntime().availableProcessors(), 1024);
+    }
+
+    public TourPlanImporter(int workers, int chunkLines) {
+        if (workers < 1 || chunkLines < 1) {
+            throw new IllegalArgumentException("workers 와 chunkLines 는 1 이상이어야 합니다.");
+        }
+        this.workers = workers;
+        this.chunkLines = chunkLines;
+    }
+
+    /**
+     * 파일을 끝까지 읽고 만든 TourPlan 을 모두 넘긴 뒤 돌아온다.
+     * 형식이 잘못된 줄이나 consumer 가 던진 예외(Error 포함)는 그 줄만 건너뛰고 {@link ImportStats#getFailed()} 에 센다.
+     */
+    public ImportStats importFrom(Path path, Consumer<? super TourPlan> consumer) {
+        BlockingQueue<Chunk> queue = new ArrayBlockingQueue<>(workers * 2);
+        LongAdder records = new LongAdder();
+        LongAdder failed = new LongAdder();
+        AtomicReference<String> firstError = new AtomicReference<>();
+        AtomicInteger alive = new AtomicInteger(workers);
+        long start = System.nanoTime();
+
+        Thread[] threads = new Thread[workers];
+        for (int i = 0; i < workers; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    work(queue, consumer, records, failed, firstError);
+                } catch (Throwable e) {
+                    firstError.compareAndSet(null, Thread.currentThread().getName() + " 스레드가 죽었습니다: " + e);
+                } finally {
+                    alive.decrementAndGet();
+                }
+            }, "tour-import-" + i);
+            threads[i].setDaemon(true);
+            threads[i].start();
+        }
+
+        boolean completed = true;
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                long lineNumber = 1;
+                List<String> lines = new ArrayList<>(chunkLines);
+                String line;
+                while (completed && (line = reader.readLine()) != null) {
+                    lines.add(line);
+                    if (lines.size() == chunkLines) {
+                        completed = offer(queue, new Chunk(lineNumber, lines), alive);
+                        lineNumber += lines.size();
+                        lines = new ArrayList<>(chunkLines);
+                    }
+                }
+                if (completed && !lines.isEmpty()) {
+                    completed = offer(queue, new Chunk(lineNumber, lines), alive);
+                }
+            } finally {
+                for (int i = 0; i < workers; i++) {
+                    if (!offer(queue, new Chunk(0, END), alive)) {
+                        break;
+                    }
+                }
+                for (Thread thread : threads) {
+                    thread.join();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(path + " 파일을 읽을 수 없습니다.", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("가져오는 중에 중단되었습니다.", e);
+        }
+
+        if (!completed) {
+            String cause = firstError.get();
+            throw new IllegalStateException("가져오는 스레드가 모두 끝나서 " + path + " 을(를) 끝까지 읽지 못했습니다."
+                    + (cause == null ? "" : " " + cause));
+        }
+        return new ImportStats(records.sum(), failed.sum(), System.nanoTime() - start, firstError.get());
+    }
+
+    /**
+     * 자리가 날 때까지 기다리되, 꺼낼 스레드가 하나도 남지 않았으면 false 를 돌려준다.
+     */
+    private static boolean offer(BlockingQueue<Chunk> queue, Chunk chunk, AtomicInteger alive) throws InterruptedException {
+        while (!queue.offer(chunk, OFFER_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (alive.get() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void work(BlockingQueue<Chunk> queue, Consumer<? super TourPlan> consumer,
+                             LongAdder records, LongAdder failed, AtomicReference<String> firstError) {
+        ReusableTourBuilder builder = new ReusableTourBuilder();
+        try {
+            while (true) {
+                Chunk chunk = queue.take();
+                if (chunk.lines == END) {
+                    return;
+                }
+
+                long imported = 0;
+                for (int i = 0; i < chunk.lines.size(); i++) {
+                    String line = chunk.lines.get(i);
+                    if (line.isEmpty() || line.charAt(0) == '#') {
+                        continue;
+                    }
+                    try {
+                        consumer.accept(parse(line, builder));
+                        imported++;
+                    } catch (Throwable e) {
+                        builder.reset();
+                        failed.increment();
+                        firstError.compareAndSet(null, (chunk.firstLine + i) + " 번째 줄: " + e);
+                    }
+                }
+                records.add(imported);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static TourPlan parse(String line, TourPlanBuilder builder) {
+        List<String> fields = split(line);
+        if (fields.size() < 5) {
+            throw new IllegalArgumentException("제목, 박, 일, 시작일, 숙소가 있어야 합니다.");
+        }
+
+        builder.title(emptyToNull(fields.get(0)))
+                .nightsAndDays(Integer.parseInt(fields.get(1)), Integer.parseInt(fields.get(2)))
+                .startDate(fields.get(3).isEmpty() ? null : LocalDate.parse(fields.get(3)))
+                .whereToStay(emptyToNull(fields.get(4)));
+        for (int i = 5; i < fields.size(); i++) {
+            String plan = fields.get(i);
+            int colon = plan.indexOf(':');
+            if (colon < 0) {
+                throw new IllegalArgumentException("일정은 날짜:일정 형식이어야 합니다. " + plan);
+            }
+            builder.addPlan(Integer.parseInt(plan.substring(0, colon)), plan.substring(colon + 1));
+        }
+        return builder.getPlan();
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(8);
+        int from = 0;
+        int tab;
+        while ((tab = line.indexOf('\t', from)) >= 0) {
+            fields.add(line.substring(from, tab));
+            from = tab + 1;
+        }
+        fields.add(line.substring(from));
+        return fields;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static class Chunk {
+
+        private final long firstLine;
+
+        private final List<String> lines;
+
+        private Chunk(long firstLine, List<String> lines) {
+            this.firstLine = firstLine;
+            this.lines = lines;
+        }
+    }
+
+    public static class ImportStats {
+
+        private final long records;
+
+        private final long failed;
+
+        private final long elapsedNanos;
+
+        private final String firstError;
+
+        private ImportStats(long records, long failed, long elapsedNanos, String firstError) {
+            this.records = records;
+            this.failed = failed;
+            this.elapsedNanos = elapsedNanos;
+            this.firstError = firstError;
+        }
+
+        public long getRecords() {
+            return records;
+        }
+
+        public long getFailed() {
+            return failed;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        public double getRecordsPerSecond() {
+            return elapsedNanos == 0 ? 0 : records * (TimeUnit.SECONDS.toNanos(1) / (double) elapsedNanos);
+        }
+
+        /**
+         * 처음 실패한 줄 번호와 예외. 실패가 없으면 null.
+         */
+        public String getFirstError() {
+            return firstError;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("records=%d, failed=%d, %d ms, %.0f records/s%s",
+                    records, failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), getRecordsPerSecond(),
+                    firstError == null ? "" : ", first error: " + firstError);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package me.whiteship.designpatterns._01_creational_patterns._04_builder._03_java;
+
+import me.whiteship.designpatterns.support.RenderBuffers;
+import me.whiteship.designpatterns.support.Renderable;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "http://www.whiteship.me/{playlist}?page={page}" 같은 URI 템플릿을 한 번만 파싱하고 인코딩해 두고,
+ * 부를 때는 변수 값만 인코딩해서 이어 붙인다.
+ * <ul>
+ *     <li>고정된 부분은 만들 때 {@code UriComponentsBuilder.fromUriString(template).encode()} 로 한 번 인코딩한다.</li>
+ *     <li>변수 값은 {@code UriComponentsBuilder.encode().buildAndExpand(values)} 처럼 unreserved 문자
+ *     (영문, 숫자, - . _ ~) 말고는 모두 UTF-8 %XX 로 인코딩한다. null 은 빈 문자열이다.</li>
+ * </ul>
+ * 만든 뒤에는 바뀌지 않으므로 여러 스레드가 같이 쓸 수 있다.
+ */
+public final class PrecompiledUriTemplate {
+
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * literals[i] 다음에 names[i] 값이 온다. literals 가 하나 더 많다.
+     */
+    private final String[] literals;
+
+    private final String[] names;
+
+    private final int literalLength;
+
+    private PrecompiledUriTemplate(String[] literals, String[] names) {
+        this.literals = literals;
+        this.names = names;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static PrecompiledUriTemplate compile(String template) {
+        String encoded = UriComponentsBuilder.fromUriString(template).encode().build().toUriString();
+
+        List<String> literals = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int from = 0;
+        int open;
+        while ((open = encoded.indexOf('{', from)) >= 0) {
+            int close = closingBrace(encoded, open);
+            if (close < 0) {
+                throw new IllegalArgumentException(template + " 의 { 가 닫히지 않았습니다.");
+            }
+            literals.add(encoded.substring(from, open));
+            String name = encoded.substring(open + 1, close);
+            int colon = name.indexOf(':');
+            names.add(colon < 0 ? name : name.substring(0, colon));
+            from = close + 1;
+        }
+        literals.add(encoded.substring(from));
+        return new PrecompiledUriTemplate(literals.toArray(new String[0]), names.toArray(new String[0]));
+    }
+
+    /**
+     * {id:\d{3}} 처럼 정규식 안에 중괄호가 있어도 짝이 맞는 } 를 찾는다.
+     */
+    private static int closingBrace(String template, int open) {
+        int depth = 0;
+        for (int i = open; i < template.length(); i++) {
+            char c = template.charAt(i);
+            if (c == '{') {
+                depth++;
+            } else if (c == '}' && --depth == 0) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public List<String> getVariableNames() {
+        return List.of(names);
+    }
+
+    /**
+     * 변수 값을 템플릿에 나온 순서대로 받는다.
+     * 값의 toString 이 같은 스레드 버퍼를 쓸 수도 있으므로({@link Renderable}) 버퍼를 잡기 전에 먼저 문자열로 바꾼다.
+     */
+    public String expand(Object... values) {
+        Object[] texts = values;
+        for (int i = 0; i < values.length; i++) {
+            if (!isText(values[i])) {
+                if (texts == values) {
+                    texts = values.clone();
+                }
+                texts[i] = values[i].toString();
+            }
+        }
+
+        StringBuilder out = RenderBuffers.builder();
+        expandTo(out, texts);
+        return out.toString();
+    }
+
+    private static boolean isText(Object value) {
+        return value == null || value instanceof String || value instanceof Integer || value instanceof Long;
+    }
+
+    /**
+     * 문자열을 만들지 않고 out 뒤에 이어 붙인다. 값이 CharSequence 나 정수면 할당이 없다.
+     * out 이 값의 toString 이 쓰는 버퍼와 같으면 안 된다.
+     */
+    public StringBuilder expandTo(StringBuilder out, Object... values) {
+        if (values.length != names.length) {
+            throw new IllegalArgumentException("변수 " + names.length + " 개가 필요한데 " + values.length + " 개를 받았습니다.");
+        }
+
+        out.ensureCapacity(out.length() + literalLength + values.length * 8);
+        for (int i = 0; i < names.length; i++) {
+            out.append(literals[i]);
+            appendEncoded(out, values[i]);
+        }
+        return out.append(literals[names.length]);
+    }
+
+    private static void appendEncoded(StringBuilder out, Object value) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Integer || value instanceof Long) {
+            out.append(((Number) value).longValue());
+            return;
+        }
+
+        CharSequence chars = value instanceof CharSequence ? (CharSequence) value : value.toString();
+        for (int i = 0; i < chars.length(); i++) {
+            char c = chars.charAt(i);
+            if (isUnreserved(c)) {
+                out.append(c);
+            } else if (c < 0x80) {
+                appendByte(out, c);
+            } else if (c < 0x800) {
+                appendByte(out, 0xC0 | c >> 6);
+                appendByte(out, 0x80 | c & 0x3F);
+            } else if (Character.isHighSurrogate(c) && i + 1 < chars.length() && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                appendByte(out, 0xF0 | codePoint >> 18);
+                appendByte(out, 0x80 | codePoint >> 12 & 0x3F);
+                appendByte(out, 0x80 | codePoint >> 6 & 0x3F);
+                appendByte(out, 0x80 | codePoint & 0x3F);
+            } else if (Character.isSurrogate(c)) {
+                appendByte(out, '?');
+            } else {
+                appendByte(out, 0xE0 | c >> 12);
+                appendByte(out, 0x80 | c >> 6 & 0x3F);
+                appendByte(out, 0x80 | c & 0x3F);
+            }
+        }
+    }
+
+    private static boolean isUnreserved(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static void appendByte(StringBuilder out, int b) {
+        out.append('%').append(HEX[b >> 4 & 0xF]).append(HEX[b & 0xF]);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder template = new StringBuilder(literalLength + names.length * 8);
+        for (int i = 0; i < names.length; i++) {
+            template.append(literals[i]).append('{').append(names[i]).append('}');
+        }
+        return template.append(literals[names.length]).toString();
+    }
+}
@@ -12,5 +12,8 @@ public class SpringExample {
                 .path("java playlist ep1")
                 .build().encode();
         System.out.println(howToStudyJava);
+
+        PrecompiledUriTemplate playlist = PrecompiledUriTemplate.compile("http://www.whiteship.me/{playlist}");
+        System.out.println(playlist.expand("java playlist ep1"));
     }
 }
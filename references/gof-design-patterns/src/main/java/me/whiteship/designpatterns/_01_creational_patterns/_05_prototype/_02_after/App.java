@@ -25,6 +25,14 @@ public class App {
         System.out.println(clone.getRepository() == githubIssue.getRepository());
 
         System.out.println(clone.getUrl());
+
+        GithubIssue shared1 = githubIssue.cloneSharingRepository();
+        GithubIssue shared2 = githubIssue.cloneSharingRepository();
+        System.out.println(shared1.getRepository() == shared2.getRepository());
+
+        shared2.updateRepository(r -> r.setName("live-study-2"));
+        System.out.println(shared1.getUrl());
+        System.out.println(shared2.getUrl());
     }
 
 }
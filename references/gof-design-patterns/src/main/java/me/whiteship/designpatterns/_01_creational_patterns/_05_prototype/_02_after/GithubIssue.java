@@ -1,15 +1,27 @@
 package me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after;
 
 import java.util.Objects;
+import java.util.function.Consumer;
 
 public class GithubIssue implements Cloneable {
 
+    private static final String URL_PREFIX = "https://github.com/";
+
+    private static final String URL_ISSUES = "/issues/";
+
     private int id;
 
     private String title;
 
     private GithubRepository repository;
 
+    /**
+     * getUrl 결과. setId 나 저장소가 바뀌면 다시 만든다.
+     */
+    private String url;
+
+    private int urlVersion;
+
     public GithubIssue(GithubRepository repository) {
         this.repository = repository;
     }
@@ -20,6 +32,7 @@ public class GithubIssue implements Cloneable {
 
     public void setId(int id) {
         this.id = id;
+        this.url = null;
     }
 
     public String getTitle() {
@@ -34,26 +47,85 @@ public class GithubIssue implements Cloneable {
         return repository;
     }
 
+    /**
+     * 이 이슈의 저장소를 바꾼다. 다른 이슈와 나눠 쓰는 저장소면 먼저 이 이슈만의 사본을 만든다.
+     */
+    public void updateRepository(Consumer<GithubRepository> update) {
+        if (this.repository instanceof SharedGithubRepository) {
+            this.repository = ((SharedGithubRepository) this.repository).copy();
+        }
+        this.url = null;
+        update.accept(this.repository);
+    }
+
     public String getUrl() {
-        return String.format("https://github.com/%s/%s/issues/%d",
-                repository.getUser(),
-                repository.getName(),
-                this.getId());
+        String url = this.url;
+        int version = repository.version();
+        if (url == null || urlVersion != version) {
+            url = appendUrl(new StringBuilder(64)).toString();
+            this.url = url;
+            this.urlVersion = version;
+        }
+        return url;
+    }
+
+    /**
+     * getUrl 과 같은 URL 을 out 뒤에 붙인다. 캐시한 URL 이 없으면 문자열을 만들지 않고 바로 쓴다.
+     */
+    public StringBuilder appendUrl(StringBuilder out) {
+        String url = this.url;
+        if (url != null && urlVersion == repository.version()) {
+            return out.append(url);
+        }
+        return out.append(URL_PREFIX)
+                .append(repository.getUser())
+                .append('/')
+                .append(repository.getName())
+                .append(URL_ISSUES)
+                .append(id);
+    }
+
+    /**
+     * 이슈마다 URL 과 줄바꿈을 out 하나에 이어 붙인다. 목록 화면처럼 URL 을 한꺼번에 쓸 때 쓴다.
+     */
+    public static StringBuilder appendUrls(Iterable<? extends GithubIssue> githubIssues, StringBuilder out) {
+        for (GithubIssue githubIssue : githubIssues) {
+            githubIssue.appendUrl(out).append('\n');
+        }
+        return out;
     }
 
     @Override
     protected Object clone() throws CloneNotSupportedException {
-        GithubRepository repository = new GithubRepository();
-        repository.setUser(this.repository.getUser());
-        repository.setName(this.repository.getName());
+        return copyWith(copyOf(this.repository));
+    }
 
+    /**
+     * 저장소는 복사하지 않고 같은 user, name 의 바꿀 수 없는 저장소 하나를 나눠 쓰는 사본을 만든다.
+     * 사본의 저장소를 바꾸려면 {@link #updateRepository(Consumer)} 를 쓴다.
+     * user 나 name 이 없는 저장소는 나눠 쓸 수 없으므로 clone 처럼 복사한다.
+     */
+    public GithubIssue cloneSharingRepository() {
+        GithubRepository repository = this.repository.getUser() != null && this.repository.getName() != null
+                ? SharedGithubRepository.of(this.repository)
+                : copyOf(this.repository);
+        return copyWith(repository);
+    }
+
+    private GithubIssue copyWith(GithubRepository repository) {
         GithubIssue githubIssue = new GithubIssue(repository);
         githubIssue.setId(this.id);
         githubIssue.setTitle(this.title);
-
         return githubIssue;
     }
 
+    private static GithubRepository copyOf(GithubRepository source) {
+        GithubRepository repository = new GithubRepository();
+        repository.setUser(source.getUser());
+        repository.setName(source.getName());
+        return repository;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -6,12 +6,18 @@ public class GithubRepository {
 
     private String name;
 
+    /**
+     * 바뀔 때마다 늘어난다. GithubIssue 가 캐시한 URL 이 아직 맞는지 볼 때 쓴다.
+     */
+    private int version;
+
     public String getUser() {
         return user;
     }
 
     public void setUser(String user) {
         this.user = user;
+        this.version++;
     }
 
     public String getName() {
@@ -20,5 +26,10 @@ public class GithubRepository {
 
     public void setName(String name) {
         this.name = name;
+        this.version++;
+    }
+
+    int version() {
+        return version;
     }
 }
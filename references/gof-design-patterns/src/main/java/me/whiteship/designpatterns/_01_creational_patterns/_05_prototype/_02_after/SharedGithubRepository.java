@@ -0,0 +1,110 @@
+package me.whiteship.designpatterns._01_creational_patterns._05_prototype._02_after;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 여러 GithubIssue 가 나눠 쓰는 바꿀 수 없는 저장소. 같은 user, name 이면 같은 인스턴스를 준다.
+ * 바꾸려면 {@link GithubIssue#updateRepository(java.util.function.Consumer)} 로 그 이슈만의 사본을 만든다.
+ * 표는 약한 참조로 들고 있어서, 어느 이슈도 쓰지 않는 저장소는 GC 가 가져가고 다음 조회 때 표에서도 지운다.
+ */
+final class SharedGithubRepository extends GithubRepository {
+
+    private static final Map<String, Map<String, Entry>> CANONICAL = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<SharedGithubRepository> COLLECTED = new ReferenceQueue<>();
+
+    private SharedGithubRepository(String user, String name) {
+        super.setUser(user);
+        super.setName(name);
+    }
+
+    static SharedGithubRepository of(GithubRepository repository) {
+        if (repository instanceof SharedGithubRepository) {
+            return (SharedGithubRepository) repository;
+        }
+        return of(repository.getUser(), repository.getName());
+    }
+
+    static SharedGithubRepository of(String user, String name) {
+        if (user == null || name == null) {
+            throw new IllegalArgumentException("user 와 name 이 있는 저장소만 나눠 쓸 수 있습니다.");
+        }
+        expunge();
+
+        Map<String, Entry> byName = CANONICAL.get(user);
+        if (byName != null) {
+            Entry entry = byName.get(name);
+            SharedGithubRepository repository = entry == null ? null : entry.get();
+            if (repository != null) {
+                return repository;
+            }
+        }
+
+        // 안쪽 표를 바꾸는 일은 모두 바깥 표의 user 칸을 잡고 해서, 비어서 지우는 표에 넣는 일이 없다.
+        SharedGithubRepository[] result = new SharedGithubRepository[1];
+        CANONICAL.compute(user, (key, names) -> {
+            if (names == null) {
+                names = new ConcurrentHashMap<>();
+            }
+            Entry entry = names.get(name);
+            result[0] = entry == null ? null : entry.get();
+            if (result[0] == null) {
+                result[0] = new SharedGithubRepository(user, name);
+                names.put(name, new Entry(result[0]));
+            }
+            return names;
+        });
+        return result[0];
+    }
+
+    private static void expunge() {
+        Entry entry;
+        while ((entry = (Entry) COLLECTED.poll()) != null) {
+            Entry collected = entry;
+            CANONICAL.computeIfPresent(collected.user, (key, names) -> {
+                names.remove(collected.name, collected);
+                return names.isEmpty() ? null : names;
+            });
+        }
+    }
+
+    /**
+     * 표에 둔 저장소. GC 가 저장소를 가져가도 표에서 지울 수 있게 user, name 을 따로 들고 있다.
+     */
+    private static final class Entry extends WeakReference<SharedGithubRepository> {
+
+        private final String user;
+
+        private final String name;
+
+        private Entry(SharedGithubRepository repository) {
+            super(repository, COLLECTED);
+            this.user = repository.getUser();
+            this.name = repository.getName();
+        }
+    }
+
+    GithubRepository copy() {
+        GithubRepository repository = new GithubRepository();
+        repository.setUser(getUser());
+        repository.setName(getName());
+        return repository;
+    }
+
+    @Override
+    public void setUser(String user) {
+        throw shared();
+    }
+
+    @Override
+    public void setName(String name) {
+        throw shared();
+    }
+
+    private static UnsupportedOperationException shared() {
+        return new UnsupportedOperationException("여러 이슈가 나눠 쓰는 저장소는 바꿀 수 없습니다. GithubIssue.updateRepository 를 쓰세요.");
+    }
+}
@@ -0,0 +1,293 @@
+package me.whiteship.designpatterns._01_creational_patterns._05_prototype._03_java;
+
+import me.whiteship.designpatterns.support.ProductRegistry;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * ModelMapper 처럼 getter 와 setter 이름을 맞춰서 객체를 옮겨 담는다. (원본 타입, 대상 타입) 마다 처음 한 번만
+ * 리플렉션으로 속성을 찾고, getter, setter, 기본 생성자를 LambdaMetafactory 로 만든 함수로 바꿔서 캐시한다.
+ * 그 뒤로는 리플렉션 없이 함수만 부른다.
+ * <ul>
+ *     <li>대상의 setXxx 마다 원본의 getXxx 를 찾는다.</li>
+ *     <li>없으면 이름을 낙타 표기 단위로 나눠 getter 를 따라간다. repositoryUser 는 getRepository().getUser() 다.
+ *     중간 값이 null 이면 그 속성은 건너뛴다.</li>
+ *     <li>int 끼리는 박싱하지 않고 옮긴다.</li>
+ * </ul>
+ * 대상 타입은 public 기본 생성자가 있어야 하고, 원본과 대상 모두 public 클래스여야 한다.
+ */
+public class AccessorMapper {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private final Map<Class<?>, Map<Class<?>, TypeMap<?>>> typeMaps = new ConcurrentHashMap<>();
+
+    public <D> D map(Object source, Class<D> destinationType) {
+        if (source == null) {
+            throw new IllegalArgumentException("source 가 null 입니다.");
+        }
+        return typeMap(source.getClass(), destinationType).map(source);
+    }
+
+    /**
+     * 반복해서 쓸 때 캐시 조회도 없이 부를 수 있는 함수. source 는 sourceType 그 자체여야 한다.
+     */
+    public <S, D> Function<S, D> mapperFor(Class<S> sourceType, Class<D> destinationType) {
+        TypeMap<D> typeMap = typeMap(sourceType, destinationType);
+        return typeMap::map;
+    }
+
+    /**
+     * 대상 속성 이름과 원본에서 따라가는 getter 경로. 어떤 속성이 연결되었는지 확인할 때 쓴다.
+     */
+    public Map<String, String> describe(Class<?> sourceType, Class<?> destinationType) {
+        return typeMap(sourceType, destinationType).paths;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <D> TypeMap<D> typeMap(Class<?> sourceType, Class<D> destinationType) {
+        Map<Class<?>, TypeMap<?>> byDestination = typeMaps.get(sourceType);
+        if (byDestination == null) {
+            byDestination = typeMaps.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>());
+        }
+        TypeMap<?> typeMap = byDestination.get(destinationType);
+        if (typeMap == null) {
+            typeMap = byDestination.computeIfAbsent(destinationType, type -> new TypeMap<>(sourceType, destinationType));
+        }
+        return (TypeMap<D>) typeMap;
+    }
+
+    private interface Property {
+
+        void copy(Object source, Object destination);
+    }
+
+    private static final class TypeMap<D> {
+
+        private final Supplier<D> constructor;
+
+        private final Property[] properties;
+
+        private final Map<String, String> paths;
+
+        private TypeMap(Class<?> sourceType, Class<D> destinationType) {
+            this.constructor = ProductRegistry.constructorOf(destinationType);
+
+            List<Property> properties = new ArrayList<>();
+            Map<String, String> paths = new LinkedHashMap<>();
+            for (Method setter : destinationType.getMethods()) {
+                if (!isSetter(setter)) {
+                    continue;
+                }
+                String name = decapitalize(setter.getName().substring(3));
+                List<Method> path = resolve(sourceType, name);
+                if (path == null || !assignable(path.get(path.size() - 1).getReturnType(), setter.getParameterTypes()[0])) {
+                    continue;
+                }
+                properties.add(property(path, setter));
+                paths.put(name, describe(path));
+            }
+            this.properties = properties.toArray(new Property[0]);
+            this.paths = Collections.unmodifiableMap(paths);
+        }
+
+        private D map(Object source) {
+            D destination = constructor.get();
+            for (Property property : properties) {
+                property.copy(source, destination);
+            }
+            return destination;
+        }
+    }
+
+    private static final class ObjectProperty implements Property {
+
+        private final List<Function<Object, Object>> getters;
+
+        private final BiConsumer<Object, Object> setter;
+
+        private ObjectProperty(List<Function<Object, Object>> getters, BiConsumer<Object, Object> setter) {
+            this.getters = getters;
+            this.setter = setter;
+        }
+
+        @Override
+        public void copy(Object source, Object destination) {
+            Object value = source;
+            for (int i = 0; i < getters.size(); i++) {
+                value = getters.get(i).apply(value);
+                if (value == null) {
+                    return;
+                }
+            }
+            setter.accept(destination, value);
+        }
+    }
+
+    private static final class IntProperty implements Property {
+
+        private final List<Function<Object, Object>> parents;
+
+        private final ToIntFunction<Object> getter;
+
+        private final ObjIntConsumer<Object> setter;
+
+        private IntProperty(List<Function<Object, Object>> parents, ToIntFunction<Object> getter, ObjIntConsumer<Object> setter) {
+            this.parents = parents;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        @Override
+        public void copy(Object source, Object destination) {
+            Object value = source;
+            for (int i = 0; i < parents.size(); i++) {
+                value = parents.get(i).apply(value);
+                if (value == null) {
+                    return;
+                }
+            }
+            setter.accept(destination, getter.applyAsInt(value));
+        }
+    }
+
+    /**
+     * name 을 읽는 getter 경로. 바로 읽을 수 없으면 이름 앞부분의 getter 를 따라가서 나머지를 찾는다.
+     */
+    private static List<Method> resolve(Class<?> type, String name) {
+        Method getter = findGetter(type, name);
+        if (getter != null) {
+            List<Method> path = new ArrayList<>();
+            path.add(getter);
+            return path;
+        }
+
+        for (int i = 1; i < name.length(); i++) {
+            if (!Character.isUpperCase(name.charAt(i))) {
+                continue;
+            }
+            Method parent = findGetter(type, name.substring(0, i));
+            if (parent == null || parent.getReturnType().isPrimitive()) {
+                continue;
+            }
+            List<Method> rest = resolve(parent.getReturnType(), decapitalize(name.substring(i)));
+            if (rest != null) {
+                rest.add(0, parent);
+                return rest;
+            }
+        }
+        return null;
+    }
+
+    private static Method findGetter(Class<?> type, String name) {
+        String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        for (String prefix : new String[]{"get", "is"}) {
+            try {
+                Method method = type.getMethod(prefix + capitalized);
+                if (!Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class
+                        && (prefix.equals("get") || method.getReturnType() == boolean.class)) {
+                    return method;
+                }
+            } catch (NoSuchMethodException e) {
+                // 다음 접두어
+            }
+        }
+        return null;
+    }
+
+    private static boolean isSetter(Method method) {
+        return method.getName().startsWith("set") && method.getName().length() > 3
+                && method.getParameterCount() == 1 && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static boolean assignable(Class<?> from, Class<?> to) {
+        return box(to).isAssignableFrom(box(from));
+    }
+
+    private static Property property(List<Method> path, Method setter) {
+        Method last = path.get(path.size() - 1);
+        List<Function<Object, Object>> parents = new ArrayList<>(path.size());
+        for (int i = 0; i < path.size() - 1; i++) {
+            parents.add(getter(path.get(i)));
+        }
+
+        if (last.getReturnType() == int.class && setter.getParameterTypes()[0] == int.class) {
+            return new IntProperty(List.copyOf(parents), intGetter(last), intSetter(setter));
+        }
+        parents.add(getter(last));
+        return new ObjectProperty(List.copyOf(parents), setter(setter));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> getter(Method method) {
+        return (Function<Object, Object>) generate(method, Function.class, "apply",
+                MethodType.methodType(Object.class, Object.class),
+                MethodType.methodType(box(method.getReturnType()), method.getDeclaringClass()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ToIntFunction<Object> intGetter(Method method) {
+        return (ToIntFunction<Object>) generate(method, ToIntFunction.class, "applyAsInt",
+                MethodType.methodType(int.class, Object.class),
+                MethodType.methodType(int.class, method.getDeclaringClass()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> setter(Method method) {
+        return (BiConsumer<Object, Object>) generate(method, BiConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, Object.class),
+                MethodType.methodType(void.class, method.getDeclaringClass(), box(method.getParameterTypes()[0])));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjIntConsumer<Object> intSetter(Method method) {
+        return (ObjIntConsumer<Object>) generate(method, ObjIntConsumer.class, "accept",
+                MethodType.methodType(void.class, Object.class, int.class),
+                MethodType.methodType(void.class, method.getDeclaringClass(), int.class));
+    }
+
+    private static Object generate(Method method, Class<?> functionalInterface, String name,
+                                   MethodType samMethodType, MethodType instantiatedMethodType) {
+        try {
+            MethodHandle handle = LOOKUP.unreflect(method);
+            return LambdaMetafactory.metafactory(LOOKUP, name, MethodType.methodType(functionalInterface),
+                    samMethodType, handle, instantiatedMethodType)
+                    .getTarget()
+                    .invoke();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(method + " 을(를) 함수로 만들 수 없습니다.", e);
+        }
+    }
+
+    private static Class<?> box(Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static String describe(List<Method> path) {
+        StringBuilder description = new StringBuilder();
+        for (Method method : path) {
+            description.append('.').append(method.getName()).append("()");
+        }
+        return description.substring(1);
+    }
+}
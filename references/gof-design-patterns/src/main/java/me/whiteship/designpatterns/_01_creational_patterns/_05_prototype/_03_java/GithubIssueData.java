@@ -1,6 +1,8 @@
 package me.whiteship.designpatterns._01_creational_patterns._05_prototype._03_java;
 
-public class GithubIssueData {
+import me.whiteship.designpatterns.support.Renderable;
+
+public class GithubIssueData implements Renderable {
 
     private int id;
 
@@ -51,4 +53,12 @@ public class GithubIssueData {
                 ", repositoryName='" + repositoryName + '\'' +
                 '}';
     }
+
+    @Override
+    public void appendTo(StringBuilder out) {
+        out.append("GithubIssueData{id=").append(id).append(", title=");
+        Renderable.appendQuoted(out, title).append(", repositoryUser=");
+        Renderable.appendQuoted(out, repositoryUser).append(", repositoryName=");
+        Renderable.appendQuoted(out, repositoryName).append('}');
+    }
 }
@@ -18,5 +18,9 @@ public class ModelMapperExample {
         ModelMapper modelMapper = new ModelMapper();
         GithubIssueData githubIssueData = modelMapper.map(githubIssue, GithubIssueData.class);
         System.out.println(githubIssueData);
+
+        AccessorMapper accessorMapper = new AccessorMapper();
+        System.out.println(accessorMapper.map(githubIssue, GithubIssueData.class));
+        System.out.println(accessorMapper.describe(GithubIssue.class, GithubIssueData.class));
     }
 }
@@ -1,6 +1,8 @@
 package me.whiteship.designpatterns._01_creational_patterns._05_prototype._03_java;
 
-public class Student {
+import me.whiteship.designpatterns.support.Renderable;
+
+public class Student implements Renderable {
 
     String name;
 
@@ -14,4 +16,10 @@ public class Student {
                 "name='" + name + '\'' +
                 '}';
     }
+
+    @Override
+    public void appendTo(StringBuilder out) {
+        out.append("Student{name=");
+        Renderable.appendQuoted(out, name).append('}');
+    }
 }
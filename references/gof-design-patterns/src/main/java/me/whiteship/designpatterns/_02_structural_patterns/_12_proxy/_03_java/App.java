@@ -1,5 +1,6 @@
 package me.whiteship.designpatterns._02_structural_patterns._12_proxy._03_java;
 
+import me.whiteship.designpatterns.support.BeanStartupReport;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
@@ -12,7 +13,7 @@ public class App {
     public static void main(String[] args) {
         SpringApplication app = new SpringApplication(App.class);
         app.setWebApplicationType(WebApplicationType.NONE);
-        app.run(args);
+        new BeanStartupReport().run(app, args);
     }
 
     @Bean
@@ -1,5 +1,6 @@
 package me.whiteship.designpatterns._03_behavioral_patterns._13_chain_of_responsibilities._03_java;
 
+import me.whiteship.designpatterns.support.BeanStartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.web.servlet.ServletComponentScan;
@@ -9,6 +10,6 @@ import org.springframework.boot.web.servlet.ServletComponentScan;
 public class App {
 
     public static void main(String[] args) {
-        SpringApplication.run(App.class, args);
+        new BeanStartupReport().run(new SpringApplication(App.class), args);
     }
 }
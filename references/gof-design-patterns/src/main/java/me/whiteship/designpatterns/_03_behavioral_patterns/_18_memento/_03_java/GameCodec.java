@@ -0,0 +1,35 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._18_memento._03_java;
+
+import me.whiteship.designpatterns._03_behavioral_patterns._18_memento._01_before.Game;
+import me.whiteship.designpatterns.support.Codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+public class GameCodec implements Codec<Game> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public void write(Game game, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeInt(game.getBlueTeamScore());
+        out.writeInt(game.getRedTeamScore());
+    }
+
+    @Override
+    public Game read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("지원하지 않는 Game 포맷 버전입니다: " + version);
+        }
+
+        Game game = new Game();
+        game.setBlueTeamScore(in.readInt());
+        game.setRedTeamScore(in.readInt());
+        return game;
+    }
+
+}
@@ -0,0 +1,34 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._18_memento._03_java;
+
+import me.whiteship.designpatterns._03_behavioral_patterns._18_memento._02_after.GameSave;
+import me.whiteship.designpatterns.support.Codec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+public class GameSaveCodec implements Codec<GameSave> {
+
+    private static final int VERSION = 1;
+
+    @Override
+    public void write(GameSave gameSave, DataOutput out) throws IOException {
+        out.writeByte(VERSION);
+        out.writeInt(gameSave.getBlueTeamScore());
+        out.writeInt(gameSave.getRedTeamScore());
+    }
+
+    @Override
+    public GameSave read(DataInput in) throws IOException {
+        int version = in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new StreamCorruptedException("지원하지 않는 GameSave 포맷 버전입니다: " + version);
+        }
+
+        int blueTeamScore = in.readInt();
+        int redTeamScore = in.readInt();
+        return new GameSave(blueTeamScore, redTeamScore);
+    }
+
+}
@@ -0,0 +1,31 @@
+package me.whiteship.designpatterns._03_behavioral_patterns._18_memento._03_java;
+
+import me.whiteship.designpatterns._03_behavioral_patterns._18_memento._02_after.Game;
+import me.whiteship.designpatterns._03_behavioral_patterns._18_memento._02_after.GameSave;
+import me.whiteship.designpatterns.support.Codec;
+
+import java.io.*;
+
+public class MementoWithCodec {
+
+    public static void main(String[] args) throws IOException {
+        Codec<GameSave> codec = new GameSaveCodec();
+
+        Game game = new Game();
+        game.setRedTeamScore(10);
+        game.setBlueTeamScore(20);
+
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream("GameSave.bin"))) {
+            codec.write(game.save(), out);
+        }
+
+        game.setBlueTeamScore(25);
+        game.setRedTeamScore(15);
+
+        try (DataInputStream in = new DataInputStream(new FileInputStream("GameSave.bin"))) {
+            game.restore(codec.read(in));
+            System.out.println(game.getBlueTeamScore());
+            System.out.println(game.getRedTeamScore());
+        }
+    }
+}
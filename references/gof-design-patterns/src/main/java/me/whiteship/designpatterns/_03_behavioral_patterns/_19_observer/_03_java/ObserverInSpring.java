@@ -1,5 +1,6 @@
 package me.whiteship.designpatterns._03_behavioral_patterns._19_observer._03_java;
 
+import me.whiteship.designpatterns.support.BeanStartupReport;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -11,7 +12,7 @@ public class ObserverInSpring {
     public static void main(String[] args) {
         SpringApplication app = new SpringApplication(ObserverInSpring.class);
         app.setWebApplicationType(WebApplicationType.NONE);
-        app.run(args);
+        new BeanStartupReport().run(app, args);
     }
 
 }
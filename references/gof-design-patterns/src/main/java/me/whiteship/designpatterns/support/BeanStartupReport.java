@@ -0,0 +1,152 @@
+package me.whiteship.designpatterns.support;
+
+import org.springframework.boot.LazyInitializationBeanFactoryPostProcessor;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ApplicationContext 가 뜨는 동안 빈마다 걸린 시간을 BufferingApplicationStartup 으로 모아서
+ * 오래 걸린 순서로 출력한다.
+ * <ul>
+ *     <li>spring.beans.instantiate: 빈 생성. BeanPostProcessor 와 초기화 메소드 시간이 포함된다.
+ *     self 는 그 안에서 만든 의존 빈 시간을 뺀 값이다.</li>
+ *     <li>spring.context.*.post-process: BeanFactoryPostProcessor 별 시간</li>
+ * </ul>
+ * -Dstartup.lazy=true 이면 모든 빈을 지연 초기화해서 짧게 돌고 끝나는 배치의 기동 시간을 비교할 수 있다.
+ */
+public class BeanStartupReport {
+
+    public static final String LAZY_PROPERTY = "startup.lazy";
+
+    private static final String INSTANTIATE = "spring.beans.instantiate";
+
+    private static final String POST_PROCESS = ".post-process";
+
+    private static final String REFRESH = "spring.context.refresh";
+
+    private final BufferingApplicationStartup applicationStartup;
+
+    private final boolean lazy;
+
+    public BeanStartupReport() {
+        this(10_000, Boolean.getBoolean(LAZY_PROPERTY));
+    }
+
+    public BeanStartupReport(int capacity, boolean lazy) {
+        this.applicationStartup = new BufferingApplicationStartup(capacity);
+        this.lazy = lazy;
+    }
+
+    public ConfigurableApplicationContext run(SpringApplication application, String... args) {
+        application.setApplicationStartup(applicationStartup);
+        application.setLazyInitialization(lazy);
+        ConfigurableApplicationContext context = application.run(args);
+        print();
+        return context;
+    }
+
+    /**
+     * 아직 refresh 하지 않은 컨텍스트를 계측한 뒤 refresh 한다.
+     */
+    public <C extends ConfigurableApplicationContext> C refresh(C context) {
+        context.setApplicationStartup(applicationStartup);
+        if (lazy) {
+            context.addBeanFactoryPostProcessor(new LazyInitializationBeanFactoryPostProcessor());
+        }
+        context.refresh();
+        print();
+        return context;
+    }
+
+    public void print() {
+        write(System.out);
+    }
+
+    public void write(Appendable out) {
+        List<StartupTimeline.TimelineEvent> events = applicationStartup.getBufferedTimeline().getEvents();
+
+        Map<Long, Duration> childDurations = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : events) {
+            Long parentId = event.getStartupStep().getParentId();
+            if (parentId != null) {
+                childDurations.merge(parentId, event.getDuration(), Duration::plus);
+            }
+        }
+
+        List<Line> beans = new ArrayList<>();
+        List<Line> postProcessors = new ArrayList<>();
+        Duration refresh = Duration.ZERO;
+        for (StartupTimeline.TimelineEvent event : events) {
+            StartupStep step = event.getStartupStep();
+            if (step.getName().equals(INSTANTIATE)) {
+                Duration self = event.getDuration().minus(childDurations.getOrDefault(step.getId(), Duration.ZERO));
+                beans.add(new Line(tag(step, "beanName"), event.getDuration(), self));
+            } else if (step.getName().endsWith(POST_PROCESS) && tag(step, "postProcessor") != null) {
+                postProcessors.add(new Line(tag(step, "postProcessor"), event.getDuration(), event.getDuration()));
+            } else if (step.getName().equals(REFRESH)) {
+                refresh = event.getDuration();
+            }
+        }
+        beans.sort(Comparator.comparing((Line line) -> line.self).reversed());
+        postProcessors.sort(Comparator.comparing((Line line) -> line.total).reversed());
+
+        try {
+            out.append(String.format("%n== startup (lazy=%s) refresh %d ms, %d beans ==%n", lazy, refresh.toMillis(), beans.size()));
+            out.append(String.format("%10s %10s  %s%n", "self ms", "total ms", "bean"));
+            for (Line line : beans) {
+                out.append(line.format());
+            }
+            out.append(String.format("%10s %10s  %s%n", "", "total ms", "bean factory post processor"));
+            for (Line line : postProcessors) {
+                out.append(String.format("%10s %10.3f  %s%n", "", millis(line.total), line.name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String tag(StartupStep step, String key) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (tag.getKey().equals(key)) {
+                return tag.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static double millis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    private static class Line {
+
+        private final String name;
+
+        private final Duration total;
+
+        private final Duration self;
+
+        private Line(String name, Duration total, Duration self) {
+            this.name = name;
+            this.total = total;
+            this.self = self;
+        }
+
+        private String format() {
+            return String.format("%10.3f %10.3f  %s%n", millis(self), millis(total), name);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package me.whiteship.designpatterns.support;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 이름으로 제품을 만드는 if-else 대신 쓰는 등록부. 이름은 소문자로 바꿔서 키로 쓰므로
+ * 찾을 때는 해시 조회 한 번이면 되고, 대소문자가 다를 때만 한 번 더 소문자로 바꿔서 찾는다.
+ */
+public class ProductRegistry<T> {
+
+    private final Map<String, Supplier<? extends T>> suppliers = new ConcurrentHashMap<>();
+
+    public ProductRegistry<T> register(String name, Supplier<? extends T> supplier) {
+        suppliers.put(normalize(name), supplier);
+        return this;
+    }
+
+    /**
+     * 기본 생성자를 LambdaMetafactory 로 Supplier 로 만들어 등록한다. 리플렉션 없이 생성자를 바로 호출한다.
+     */
+    public ProductRegistry<T> register(String name, Class<? extends T> type) {
+        return register(name, constructorOf(type));
+    }
+
+    public boolean contains(String name) {
+        return find(name) != null;
+    }
+
+    public int size() {
+        return suppliers.size();
+    }
+
+    public T create(String name) {
+        Supplier<? extends T> supplier = find(name);
+        if (supplier == null) {
+            throw new IllegalArgumentException(name + " 은(는) 등록되지 않은 이름입니다.");
+        }
+        return supplier.get();
+    }
+
+    public T create(String name, Supplier<? extends T> fallback) {
+        Supplier<? extends T> supplier = find(name);
+        return supplier == null ? fallback.get() : supplier.get();
+    }
+
+    private Supplier<? extends T> find(String name) {
+        if (name == null) {
+            return null;
+        }
+        Supplier<? extends T> supplier = suppliers.get(name);
+        return supplier != null ? supplier : suppliers.get(normalize(name));
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Supplier<T> constructorOf(Class<? extends T> type) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = lookup.findConstructor(type, MethodType.methodType(void.class));
+            return (Supplier<T>) LambdaMetafactory.metafactory(lookup,
+                    "get",
+                    MethodType.methodType(Supplier.class),
+                    MethodType.methodType(Object.class),
+                    constructor,
+                    MethodType.methodType(type))
+                    .getTarget()
+                    .invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalArgumentException(type.getName() + " 의 기본 생성자를 쓸 수 없습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,90 @@
+package me.whiteship.designpatterns.support;
+
+import java.nio.ByteBuffer;
+
+/**
+ * {@link Renderable} 이 스레드마다 다시 쓰는 버퍼. 한 번 커진 버퍼는 줄이지 않되, 아주 큰 글자를 한 번 쓴 뒤
+ * 계속 붙잡고 있지 않도록 MAX_RETAINED 보다 크면 다음에 새로 만든다.
+ */
+public final class RenderBuffers {
+
+    private static final int MAX_RETAINED = 64 * 1024;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private static final ThreadLocal<char[]> CHARS = ThreadLocal.withInitial(() -> new char[256]);
+
+    private RenderBuffers() {
+    }
+
+    /**
+     * 비운 스레드 버퍼. Renderable 밖에서는 PrecompiledUriTemplate 이 쓰며, 다 쓰기 전에 다른 Renderable 을 그리면 안 된다.
+     */
+    public static StringBuilder builder() {
+        StringBuilder builder = BUILDER.get();
+        if (builder.capacity() > MAX_RETAINED) {
+            builder = new StringBuilder(256);
+            BUILDER.set(builder);
+        }
+        builder.setLength(0);
+        return builder;
+    }
+
+    static char[] chars(int length) {
+        char[] chars = CHARS.get();
+        if (chars.length < length) {
+            chars = new char[Math.max(length, chars.length * 2)];
+            if (chars.length <= MAX_RETAINED) {
+                CHARS.set(chars);
+            }
+        }
+        return chars;
+    }
+
+    static int utf8Length(char[] chars, int count) {
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            char c = chars[i];
+            if (c < 0x80) {
+                length += 1;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(chars[i + 1])) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(c)) {
+                length += 1;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 짝이 맞지 않는 서로게이트는 String.getBytes 처럼 '?' 로 쓴다.
+     */
+    static void putUtf8(char[] chars, int count, ByteBuffer buffer) {
+        for (int i = 0; i < count; i++) {
+            char c = chars[i];
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | c >> 6))
+                        .put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(chars[i + 1])) {
+                int codePoint = Character.toCodePoint(c, chars[++i]);
+                buffer.put((byte) (0xF0 | codePoint >> 18))
+                        .put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F))
+                        .put((byte) (0x80 | codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | c >> 12))
+                        .put((byte) (0x80 | c >> 6 & 0x3F))
+                        .put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+}
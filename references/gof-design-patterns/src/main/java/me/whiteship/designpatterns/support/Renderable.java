@@ -0,0 +1,99 @@
+package me.whiteship.designpatterns.support;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+
+/**
+ * toString 과 같은 모양의 글자를 새 문자열을 만들지 않고 StringBuilder, Appendable, ByteBuffer 에 바로 쓴다.
+ * 구현체는 {@link #appendTo(StringBuilder)} 하나만 만들면 되고, 나머지는 스레드마다 하나인 StringBuilder 와
+ * char[] 를 다시 쓴다. 로그나 내보내기처럼 같은 스레드에서 아주 많이 부르는 곳에서 골라 쓴다.
+ * 필드 몇 개짜리 toString 은 문자열 연결이 render 보다 덜 할당하므로 toString 은 그대로 두고,
+ * 글자가 길어서 render 가 덜 할당할 때만 toString 에서 render 를 부른다.
+ */
+public interface Renderable {
+
+    void appendTo(StringBuilder out);
+
+    /**
+     * Writer 면 스레드마다 하나인 char[] 로 옮겨 쓴다. 그 밖의 Appendable 은 append(CharSequence) 가
+     * 문자열을 만들 수도 있다.
+     */
+    default Appendable appendTo(Appendable out) throws IOException {
+        if (out instanceof StringBuilder) {
+            appendTo((StringBuilder) out);
+            return out;
+        }
+
+        StringBuilder buffer = RenderBuffers.builder();
+        appendTo(buffer);
+        if (out instanceof Writer) {
+            char[] chars = RenderBuffers.chars(buffer.length());
+            buffer.getChars(0, buffer.length(), chars, 0);
+            ((Writer) out).write(chars, 0, buffer.length());
+        } else {
+            out.append(buffer);
+        }
+        return out;
+    }
+
+    /**
+     * UTF-8 로 buffer 의 position 부터 쓴다. 자리가 모자라면 아무것도 쓰지 않고 BufferOverflowException 을 던진다.
+     *
+     * @return 쓴 바이트 수
+     */
+    default int writeTo(ByteBuffer buffer) {
+        StringBuilder builder = RenderBuffers.builder();
+        appendTo(builder);
+        int count = builder.length();
+        char[] chars = RenderBuffers.chars(count);
+        builder.getChars(0, count, chars, 0);
+
+        int length = RenderBuffers.utf8Length(chars, count);
+        if (length > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        RenderBuffers.putUtf8(chars, count, buffer);
+        return length;
+    }
+
+    /**
+     * 스레드마다 하나인 StringBuilder 에 쓰고 딱 맞는 크기의 문자열 하나만 만든다.
+     * 빌더는 한글 같은 글자를 한 번 담으면 UTF-16 으로 남아서 이후 Latin-1 글자는 toString 에서 압축해 복사한다.
+     * appendTo 안에서 다른 Renderable 의 toString 을 부르면 같은 버퍼를 덮어쓰므로 appendTo 끼리만 부른다.
+     */
+    default String render() {
+        StringBuilder builder = RenderBuffers.builder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    /**
+     * 'value' 모양으로 쓴다. 기존 toString 처럼 null 도 'null' 로 쓴다.
+     */
+    static StringBuilder appendQuoted(StringBuilder out, String value) {
+        return out.append('\'').append(value).append('\'');
+    }
+
+    /**
+     * LocalDate.toString 과 같은 yyyy-MM-dd 를 문자열 없이 쓴다.
+     */
+    static StringBuilder appendDate(StringBuilder out, LocalDate date) {
+        if (date == null || date.getYear() < 0 || date.getYear() > 9999) {
+            return out.append(date);
+        }
+        int year = date.getYear();
+        out.append((char) ('0' + year / 1000))
+                .append((char) ('0' + year / 100 % 10))
+                .append((char) ('0' + year / 10 % 10))
+                .append((char) ('0' + year % 10))
+                .append('-');
+        int month = date.getMonthValue();
+        out.append((char) ('0' + month / 10)).append((char) ('0' + month % 10)).append('-');
+        int day = date.getDayOfMonth();
+        return out.append((char) ('0' + day / 10)).append((char) ('0' + day % 10));
+    }
+
+}